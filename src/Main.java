@@ -1,3 +1,4 @@
+import UI.BoardRenderer;
 import UI.UI;
 import chess.ChessException;
 import chess.ChessMatch;
@@ -15,18 +16,17 @@ public class Main {
         Scanner scan = new Scanner(System.in);
         ChessMatch chessMatch = new ChessMatch();
         List<ChessPiece> captured = new ArrayList<>();
+        BoardRenderer renderer = new BoardRenderer(System.out, 8, 8);
 
         while (!chessMatch.getCheckMate()) {
             try {
-                UI.clearScreen();
-                UI.printMatch(chessMatch, captured);
+                UI.printMatch(renderer, chessMatch, captured);
                 System.out.println();
                 System.out.print("Source: ");
                 ChessPosition source = UI.readChessPosition(scan);
 
                 boolean[][] possibleMoves = chessMatch.possibleMoves(source);
-                UI.clearScreen();
-                UI.printBoard(chessMatch.getPieces(), possibleMoves);
+                renderer.render(chessMatch.getPieces(), possibleMoves);
 
                 System.out.print("Target: ");
                 ChessPosition target = UI.readChessPosition(scan);
@@ -41,7 +41,7 @@ public class Main {
                 scan.nextLine();
             }
         }
-        UI.clearScreen();
-        UI.printMatch(chessMatch, captured  );
+        UI.printMatch(renderer, chessMatch, captured);
+        renderer.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package UI;
+
+import chess.ChessPiece;
+import chess.Color;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Desenha o tabuleiro em um terminal ANSI montando cada quadro em um único buffer reutilizável,
+ * enviado com um só write e um só flush.
+ * <p>
+ * O primeiro quadro é desenhado por inteiro. Os seguintes enviam apenas as casas que mudaram
+ * (peça, cor ou destaque de movimento possível), posicionando o cursor com sequências de escape,
+ * o que evita limpar a tela e redesenhar tudo a cada jogada. Ao final de cada quadro o cursor
+ * fica logo abaixo do tabuleiro e o restante da tela é limpo, para o texto de status.
+ * <p>
+ * As posições do cursor são absolutas, então o tabuleiro não pode rolar junto com o texto de
+ * status e com o que o usuário digita. Por isso o quadro completo limita a rolagem do terminal
+ * às linhas abaixo do tabuleiro (DECSTBM); {@link #close()} devolve a rolagem à tela inteira.
+ * Se outro código limpar ou rolar a tela inteira, chame {@link #invalidate()} para que o
+ * próximo quadro seja completo.
+ * <p>
+ * Para medições sem terminal, basta usar como saída qualquer {@link OutputStream}
+ * (ex: {@link OutputStream#nullOutputStream()}).
+ */
+public class BoardRenderer implements AutoCloseable {
+    private static final byte[] ESC = {27, '['};
+
+    private final OutputStream out;
+    private final int rows;
+    private final int columns;
+    // Código de cada casa no último quadro enviado (-1 = desconhecido)
+    private final int[] frame;
+    private byte[] buffer = new byte[4096];
+    private int length;
+    private long bytesWritten;
+
+    public BoardRenderer(OutputStream out, int rows, int columns) {
+        this.out = out;
+        this.rows = rows;
+        this.columns = columns;
+        this.frame = new int[rows * columns];
+        invalidate();
+    }
+
+    // Força o próximo quadro a ser desenhado por inteiro (ex: depois de a tela ser limpa por outro código)
+    public void invalidate() {
+        Arrays.fill(frame, -1);
+    }
+
+    /**
+     * Desenha o tabuleiro, enviando só as casas alteradas desde o quadro anterior.
+     *
+     * @param pieces        matriz de peças
+     * @param possibleMoves casas a destacar, ou null para nenhum destaque
+     */
+    public void render(ChessPiece[][] pieces, boolean[][] possibleMoves) {
+        length = 0;
+        if (frame[0] == -1) {
+            appendFull(pieces, possibleMoves);
+        } else {
+            appendDiff(pieces, possibleMoves);
+        }
+        // Cursor abaixo da legenda das colunas, limpando o texto antigo
+        moveCursor(rows + 2, 1);
+        append(ESC).append('J');
+        flush();
+    }
+
+    // Devolve a rolagem à tela inteira e deixa o cursor abaixo do texto já escrito
+    @Override
+    public void close() {
+        length = 0;
+        append(ESC).append('r');
+        flush();
+        invalidate();
+    }
+
+    // Total de bytes enviados desde a criação
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void appendFull(ChessPiece[][] pieces, boolean[][] possibleMoves) {
+        // Rolagem na tela inteira enquanto limpa e desenha
+        append(ESC).append('r');
+        append(ESC).append('H').append(ESC).append("2J");
+        for (int i = 0; i < rows; i++) {
+            append(Integer.toString(rows - i)).append(' ');
+            for (int j = 0; j < columns; j++) {
+                int code = code(pieces[i][j], possibleMoves != null && possibleMoves[i][j]);
+                appendCell(code);
+                frame[i * columns + j] = code;
+            }
+            append('\n');
+        }
+        append("  ");
+        for (int j = 0; j < columns; j++) {
+            append((char) ('a' + j)).append(' ');
+        }
+        append('\n');
+        // Só as linhas abaixo da legenda rolam: as casas ficam nas linhas que appendDiff espera
+        append(ESC).append(Integer.toString(rows + 2)).append(";r");
+    }
+
+    private void appendDiff(ChessPiece[][] pieces, boolean[][] possibleMoves) {
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                int code = code(pieces[i][j], possibleMoves != null && possibleMoves[i][j]);
+                if (frame[i * columns + j] != code) {
+                    // Coluna na tela: rótulo da linha ("8 ") + 2 caracteres por casa
+                    moveCursor(i + 1, Integer.toString(rows - i).length() + 2 + 2 * j);
+                    appendCell(code);
+                    frame[i * columns + j] = code;
+                }
+            }
+        }
+    }
+
+    // Código da casa: letra da peça (0 = vazia), bit 8 = peça preta, bit 9 = destaque
+    private static int code(ChessPiece piece, boolean highlight) {
+        int code = 0;
+        if (piece != null) {
+            code = piece.toString().charAt(0);
+            if (piece.getColor() == Color.BLACK) {
+                code |= 1 << 8;
+            }
+        }
+        return highlight ? code | 1 << 9 : code;
+    }
+
+    // Mesmo formato de UI.printPiece: fundo, peça ou traço, reset e um espaço
+    private void appendCell(int code) {
+        if ((code & 1 << 9) != 0) {
+            append(UI.ANSI_BLUE_BACKGROUND);
+        }
+        char letter = (char) (code & 0xFF);
+        if (letter == 0) {
+            append('-');
+        } else {
+            append((code & 1 << 8) != 0 ? UI.ANSI_YELLOW : UI.ANSI_WHITE).append(letter);
+        }
+        append(UI.ANSI_RESET).append(' ');
+    }
+
+    private void moveCursor(int row, int column) {
+        append(ESC).append(Integer.toString(row)).append(';').append(Integer.toString(column)).append('H');
+    }
+
+    private BoardRenderer append(String s) {
+        ensureCapacity(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buffer[length++] = (byte) s.charAt(i);
+        }
+        return this;
+    }
+
+    private BoardRenderer append(char c) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) c;
+        return this;
+    }
+
+    private BoardRenderer append(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+        return this;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void flush() {
+        try {
+            out.write(buffer, 0, length);
+            out.flush();
+            bytesWritten += length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
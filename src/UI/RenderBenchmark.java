@@ -0,0 +1,103 @@
+package UI;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara, sem terminal, o custo de desenhar uma partida: redesenho completo com
+ * clearScreen + printBoard, quadro completo do {@link BoardRenderer} e quadro por diferenças.
+ * Argumentos: número de jogadas da partida (padrão 100) e de repetições (padrão 200).
+ */
+public class RenderBenchmark {
+
+    public static void main(String[] args) {
+        int plies = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        List<ChessPiece[][]> frames = playGame(plies);
+
+        PrintStream console = System.out;
+        CountingSink sink = new CountingSink();
+        System.setOut(new PrintStream(sink, false));
+        long legacy = time(repetitions, () -> {
+            for (ChessPiece[][] frame : frames) {
+                UI.clearScreen();
+                UI.printBoard(frame);
+            }
+        });
+        System.out.flush();
+        System.setOut(console);
+        report("clearScreen + printBoard", legacy, sink.count, repetitions * frames.size());
+
+        CountingSink fullSink = new CountingSink();
+        BoardRenderer full = new BoardRenderer(fullSink, 8, 8);
+        long fullNanos = time(repetitions, () -> {
+            for (ChessPiece[][] frame : frames) {
+                full.invalidate();
+                full.render(frame, null);
+            }
+        });
+        report("BoardRenderer (quadro completo)", fullNanos, fullSink.count, repetitions * frames.size());
+
+        CountingSink diffSink = new CountingSink();
+        BoardRenderer diff = new BoardRenderer(diffSink, 8, 8);
+        long diffNanos = time(repetitions, () -> {
+            diff.invalidate();
+            for (ChessPiece[][] frame : frames) {
+                diff.render(frame, null);
+            }
+        });
+        report("BoardRenderer (diferenças)", diffNanos, diffSink.count, repetitions * frames.size());
+    }
+
+    private static List<ChessPiece[][]> playGame(int plies) {
+        Random random = new Random(1);
+        ChessMatch match = new ChessMatch();
+        List<ChessPiece[][]> frames = new ArrayList<>();
+        frames.add(match.getPieces());
+        for (int i = 0; i < plies && !match.getCheckMate(); i++) {
+            List<ChessMove> legalMoves = match.legalMoves();
+            if (legalMoves.isEmpty()) {
+                break;
+            }
+            ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+            match.performChessMove(move.getSource(), move.getTarget());
+            frames.add(match.getPieces());
+        }
+        return frames;
+    }
+
+    private static long time(int repetitions, Runnable frameLoop) {
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            frameLoop.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, long nanos, long bytes, long frames) {
+        System.out.printf("%-32s %8.0f quadros/s %8.1f bytes/quadro%n", name, frames * 1e9 / nanos,
+                (double) bytes / frames);
+    }
+
+    // Saída que só conta os bytes recebidos
+    private static class CountingSink extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
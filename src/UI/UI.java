@@ -62,6 +62,20 @@ public class UI {
     public static void printMatch(ChessMatch chessMatch, List<ChessPiece> captured) {
         printBoard(chessMatch.getPieces());
         System.out.println();
+        printStatus(chessMatch, captured);
+    }
+
+    /**
+     * Exibe o estado atual da partida desenhando o tabuleiro com o {@link BoardRenderer},
+     * que só reenvia as casas alteradas desde o último quadro.
+     */
+    public static void printMatch(BoardRenderer renderer, ChessMatch chessMatch, List<ChessPiece> captured) {
+        renderer.render(chessMatch.getPieces(), null);
+        printStatus(chessMatch, captured);
+    }
+
+    // Exibe as peças capturadas, o turno e o jogador atual (ou o vencedor)
+    private static void printStatus(ChessMatch chessMatch, List<ChessPiece> captured) {
         printCapturedPieces(captured);
         System.out.println();
         System.out.println("Turno: " + chessMatch.getTurn());
@@ -82,48 +96,45 @@ public class UI {
      * @param pieces Matriz 8x8 representando as peças do xadrez
      */
     public static void printBoard(ChessPiece[][] pieces) {
-        for (int i = 0; i < pieces.length; i++) {
-            System.out.print(8 - i + " ");
-            for (int j = 0; j < pieces.length; j++) {
-                printPiece(pieces[i][j], false);
-            }
-            System.out.println();
-        }
-        System.out.println("  a b c d e f g h");
+        printBoard(pieces, null);
     }
 
     /**
      * Imprime o tabuleiro com destaque visual para as casas onde a peça selecionada pode se mover.
+     * O tabuleiro é montado em memória e enviado ao console de uma só vez.
      *
      * @param pieces        Matriz 8x8 com as peças
-     * @param possibleMoves Matriz booleana 8x8 indicando movimentos possíveis (true = posição destacada)
+     * @param possibleMoves Matriz booleana 8x8 indicando movimentos possíveis (true = posição destacada),
+     *                      ou null para nenhum destaque
      */
     public static void printBoard(ChessPiece[][] pieces, boolean[][] possibleMoves) {
+        StringBuilder sb = new StringBuilder(pieces.length * pieces[0].length * 16);
         for (int i = 0; i < pieces.length; i++) {
-            System.out.print(8 - i + " ");
-            for (int j = 0; j < pieces.length; j++) {
-                printPiece(pieces[i][j], possibleMoves[i][j]);
+            sb.append(pieces.length - i).append(' ');
+            for (int j = 0; j < pieces[i].length; j++) {
+                appendPiece(sb, pieces[i][j], possibleMoves != null && possibleMoves[i][j]);
             }
-            System.out.println();
+            sb.append(System.lineSeparator());
         }
-        System.out.println("  a b c d e f g h");
+        sb.append("  a b c d e f g h").append(System.lineSeparator());
+        System.out.print(sb);
     }
 
-    //Imprime uma peça ou um traço se a posição estiver vazia.
-    private static void printPiece(ChessPiece piece, boolean background) {
+    //Acrescenta uma peça ou um traço se a posição estiver vazia.
+    private static void appendPiece(StringBuilder sb, ChessPiece piece, boolean background) {
         if (background) {
-            System.out.print(ANSI_BLUE_BACKGROUND);
+            sb.append(ANSI_BLUE_BACKGROUND);
         }
         if (piece == null) {
-            System.out.print("-" + ANSI_RESET);
+            sb.append("-" + ANSI_RESET);
         } else {
             if (piece.getColor() == Color.WHITE) {
-                System.out.print(ANSI_WHITE + piece + ANSI_RESET);
+                sb.append(ANSI_WHITE).append(piece).append(ANSI_RESET);
             } else {
-                System.out.print(ANSI_YELLOW + piece + ANSI_RESET);
+                sb.append(ANSI_YELLOW).append(piece).append(ANSI_RESET);
             }
         }
-        System.out.print(" ");
+        sb.append(' ');
     }
 
     /**
@@ -0,0 +1,353 @@
+import chess.ChessException;
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.Color;
+import chess.MatchState;
+import chess.engine.Search;
+import chess.engine.SearchResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ponto de entrada que fala o protocolo UCI, para usar o motor em interfaces gráficas e
+ * gerenciadores de torneio.
+ * <p>
+ * A thread principal só lê comandos; a busca roda na thread "uci-search", com aprofundamento
+ * iterativo sobre {@link Search}. Por isso "stop" é atendido assim que lido: ele marca a busca
+ * como parada, e ela confere essa marca a cada jogada que testa. O tempo de "go movetime" e do
+ * relógio é controlado pela thread "uci-timer", que também chama {@link Search#stop()}.
+ * <p>
+ * Com "go ponder" o motor pensa na posição após a resposta esperada do adversário (o segundo
+ * lance da variante principal, enviado em "bestmove ... ponder ..."). Se vier "ponderhit", a
+ * mesma busca continua, agora com o relógio valendo; se vier "stop", ela é descartada.
+ * <p>
+ * Não há roque, en passant nem promoção nesta implementação: o sufixo de promoção dos lances
+ * é ignorado.
+ */
+public class Uci {
+    private static final int MAX_DEPTH = 32;
+    // Margem para a comunicação com a interface ao calcular o tempo de cada lance
+    private static final long MOVE_OVERHEAD_MILLIS = 30;
+
+    private final PrintStream out;
+    private final Search search = new Search(MAX_DEPTH);
+    private final ExecutorService searcher = Executors.newSingleThreadExecutor(r -> thread(r, "uci-search"));
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> thread(r, "uci-timer"));
+
+    private ChessMatch match = new ChessMatch();
+    private Future<?> running;
+
+    // Estado da busca em andamento, protegido pelo monitor desta instância
+    private boolean pondering;
+    private boolean infinite;
+    private boolean stopRequested;
+    private long pendingMillis;
+    private ScheduledFuture<?> deadline;
+    // Número da busca atual: o relógio de uma busca anterior não pode parar a seguinte
+    private long generation;
+
+    public Uci(PrintStream out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Uci uci = new Uci(new PrintStream(System.out, true, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (!uci.handle(line.trim())) {
+                break;
+            }
+        }
+        uci.close();
+    }
+
+    /**
+     * Trata um comando.
+     *
+     * @return false se o comando for "quit"
+     */
+    public boolean handle(String line) {
+        String[] tokens = line.split("\\s+");
+        switch (tokens[0]) {
+            case "uci":
+                send("id name chess-system");
+                send("option name Ponder type check default true");
+                send("uciok");
+                break;
+            case "isready":
+                send("readyok");
+                break;
+            case "ucinewgame":
+                stopAndWait();
+                match = new ChessMatch();
+                break;
+            case "position":
+                stopAndWait();
+                position(tokens);
+                break;
+            case "go":
+                stopAndWait();
+                go(tokens);
+                break;
+            case "stop":
+                stop();
+                break;
+            case "ponderhit":
+                ponderHit();
+                break;
+            case "quit":
+                stopAndWait();
+                return false;
+            default:
+                // debug, setoption, register e comandos desconhecidos são ignorados
+                break;
+        }
+        return true;
+    }
+
+    public void close() {
+        stopAndWait();
+        searcher.shutdown();
+        timer.shutdown();
+    }
+
+    // position [startpos | fen <campos>] [moves <lance>...]
+    private void position(String[] tokens) {
+        int i = 1;
+        ChessMatch next;
+        try {
+            if (i < tokens.length && tokens[i].equals("fen")) {
+                StringBuilder fen = new StringBuilder();
+                for (i++; i < tokens.length && !tokens[i].equals("moves"); i++) {
+                    fen.append(tokens[i]).append(' ');
+                }
+                next = new ChessMatch(MatchState.fromFen(fen.toString()));
+            } else {
+                next = new ChessMatch();
+                i++;
+            }
+            if (i < tokens.length && tokens[i].equals("moves")) {
+                for (i++; i < tokens.length; i++) {
+                    String text = tokens[i].length() > 4 ? tokens[i].substring(0, 4) : tokens[i];
+                    ChessMove move = ChessMove.parse(text);
+                    next.performChessMove(move.getSource(), move.getTarget());
+                }
+            }
+        } catch (ChessException e) {
+            send("info string posição inválida: " + e.getMessage());
+            return;
+        }
+        match = next;
+    }
+
+    // go [ponder] [infinite] [depth d] [movetime ms] [wtime ms] [btime ms] [winc ms] [binc ms] [movestogo n]
+    private void go(String[] tokens) {
+        int depth = MAX_DEPTH;
+        long movetime = -1;
+        long time = -1;
+        long increment = 0;
+        int movesToGo = 0;
+        boolean ponder = false;
+        boolean untilStop = false;
+        boolean white = match.getCurrentPlayer() == Color.WHITE;
+        for (int i = 1; i < tokens.length; i++) {
+            String value = i + 1 < tokens.length ? tokens[i + 1] : "0";
+            switch (tokens[i]) {
+                case "ponder" -> ponder = true;
+                case "infinite" -> untilStop = true;
+                case "depth" -> depth = (int) Math.max(1, Math.min(MAX_DEPTH, number(tokens[i], value, depth)));
+                case "movetime" -> movetime = number(tokens[i], value, movetime);
+                case "wtime" -> time = white ? number(tokens[i], value, time) : time;
+                case "btime" -> time = white ? time : number(tokens[i], value, time);
+                case "winc" -> increment = white ? number(tokens[i], value, increment) : increment;
+                case "binc" -> increment = white ? increment : number(tokens[i], value, increment);
+                case "movestogo" -> movesToGo = (int) Math.min(Integer.MAX_VALUE, number(tokens[i], value, movesToGo));
+                default -> {
+                }
+            }
+        }
+
+        long budget = -1;
+        if (movetime >= 0) {
+            budget = movetime;
+        } else if (time >= 0) {
+            budget = time / (movesToGo > 0 ? movesToGo : 30) + increment / 2;
+            budget = Math.max(1, Math.min(budget, time - MOVE_OVERHEAD_MILLIS));
+        }
+
+        MatchState root = match.getState();
+        int maxDepth = depth;
+        synchronized (this) {
+            pondering = ponder;
+            infinite = untilStop;
+            stopRequested = false;
+            pendingMillis = budget;
+            generation++;
+            search.reset();
+            if (!pondering) {
+                startClock();
+            }
+        }
+        running = searcher.submit(() -> iterate(root, maxDepth));
+    }
+
+    // Aprofundamento iterativo até a profundidade pedida, o fim do tempo ou "stop"
+    private void iterate(MatchState root, int maxDepth) {
+        long start = System.nanoTime();
+        SearchResult best = null;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            SearchResult result = search.search(root, depth);
+            if (result.isCompleted() || best == null) {
+                best = result;
+            }
+            if (!result.isCompleted()) {
+                break;
+            }
+            info(result, start);
+            if (result.getBestMove() == null || result.isMateScore()) {
+                break;
+            }
+        }
+        awaitRelease();
+        synchronized (this) {
+            if (deadline != null) {
+                deadline.cancel(false);
+                deadline = null;
+            }
+        }
+        bestMove(best);
+    }
+
+    // Valor numérico de um parâmetro de "go"; um valor malformado é informado e ignorado
+    private long number(String name, String value, long current) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            send("info string valor inválido para " + name + ": " + value);
+            return current;
+        }
+    }
+
+    /**
+     * Em "go infinite" e durante o ponder, o UCI proíbe enviar o lance antes de "stop" ou
+     * "ponderhit", mesmo que a busca tenha terminado.
+     */
+    private synchronized void awaitRelease() {
+        while ((infinite || pondering) && !stopRequested) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private synchronized void stop() {
+        stopRequested = true;
+        search.stop();
+        notifyAll();
+    }
+
+    // O adversário jogou o lance esperado: a busca segue, agora contando o tempo
+    private synchronized void ponderHit() {
+        if (!pondering) {
+            return;
+        }
+        pondering = false;
+        startClock();
+        notifyAll();
+    }
+
+    private void startClock() {
+        if (pendingMillis >= 0 && !infinite) {
+            long owner = generation;
+            deadline = timer.schedule(() -> expire(owner), pendingMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Fim do tempo da busca "owner"; cancel() não impede um disparo já em andamento, daí a conferência
+    private synchronized void expire(long owner) {
+        if (owner == generation) {
+            stop();
+        }
+    }
+
+    private void stopAndWait() {
+        Future<?> previous = running;
+        if (previous == null) {
+            return;
+        }
+        stop();
+        try {
+            previous.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            send("info string erro na busca: " + e.getCause());
+        }
+        running = null;
+    }
+
+    private void info(SearchResult result, long start) {
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        String score;
+        if (result.isMateScore()) {
+            int plies = Search.MATE - Math.abs(result.getScore());
+            score = "mate " + (result.getScore() > 0 ? (plies + 1) / 2 : -(plies + 1) / 2);
+        } else {
+            score = "cp " + result.getScore();
+        }
+        StringBuilder sb = new StringBuilder("info depth ").append(result.getDepth())
+                .append(" score ").append(score)
+                .append(" nodes ").append(result.getNodes())
+                .append(" time ").append(millis)
+                .append(" nps ").append(result.getNodes() * 1000 / Math.max(1, millis))
+                .append(" pv");
+        for (ChessMove move : result.getPrincipalVariation()) {
+            sb.append(' ').append(move);
+        }
+        send(sb.toString());
+    }
+
+    private void bestMove(SearchResult result) {
+        ChessMove best = result.getBestMove();
+        if (best == null) {
+            // Busca parada antes do primeiro lance: qualquer lance legal serve
+            List<ChessMove> legalMoves = match.legalMoves();
+            best = legalMoves.isEmpty() ? null : legalMoves.get(0);
+        }
+        if (best == null) {
+            send("bestmove 0000");
+        } else if (result.getBestMove() != null && result.getPonderMove() != null) {
+            send("bestmove " + best + " ponder " + result.getPonderMove());
+        } else {
+            send("bestmove " + best);
+        }
+    }
+
+    private void send(String line) {
+        synchronized (out) {
+            out.println(line);
+            out.flush();
+        }
+    }
+
+    private static Thread thread(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+}
@@ -3,7 +3,10 @@ package boardgame;
 public class Board {
     private int rows;
     private int columns;
-    private Piece[][] pieces;
+    // Casas em ordem de linha: índice = linha * columns + coluna
+    private Piece[] pieces;
+    // Conjunto reutilizado pelas consultas de Piece (possibleMove, isThereAnyPossibleMove)
+    private MoveSet scratchMoves;
 
     /**
      * Cria um tabuleiro com o número de linhas e colunas especificado.
@@ -18,7 +21,7 @@ public class Board {
         }
         this.rows = rows;
         this.columns = columns;
-        this.pieces = new Piece[rows][columns];
+        this.pieces = new Piece[rows * columns];
     }
 
     //Retorna a peça na posição (linha, coluna) especificada.
@@ -26,7 +29,7 @@ public class Board {
         if (!positionExists(row, column)) {
             throw new BoardException("Posição fora do tabuleiro");
         }
-        return this.pieces[row][column];
+        return this.pieces[row * columns + column];
     }
 
     //Retorna a peça na posição especificada.
@@ -34,7 +37,17 @@ public class Board {
         if (!positionExists(position)) {
             throw new BoardException("Posição fora do tabuleiro");
         }
-        return this.pieces[position.getRow()][position.getColumn()];
+        return this.pieces[position.getRow() * columns + position.getColumn()];
+    }
+
+    /**
+     * Retorna a peça na casa de índice informado, sem validar o índice.
+     * Usado pela geração de movimentos, que percorre casas já validadas.
+     *
+     * @param square índice da casa (linha * colunas + coluna)
+     */
+    public Piece piece(int square) {
+        return this.pieces[square];
     }
 
     //Coloca uma peça em uma posição no tabuleiro e atualiza sua posição interna.
@@ -42,7 +55,7 @@ public class Board {
         if (thereIsAPiece(position)) {
             throw new BoardException("Já existe uma peça na posição (" + position + ")");
         }
-        this.pieces[position.getRow()][position.getColumn()] = piece;
+        this.pieces[position.getRow() * columns + position.getColumn()] = piece;
         piece.position = position;
     }
 
@@ -63,7 +76,7 @@ public class Board {
         Piece aux = piece(position);
         aux.position = null;
 
-        pieces[position.getRow()][position.getColumn()] = null;
+        pieces[position.getRow() * columns + position.getColumn()] = null;
         return aux;
     }
 
@@ -85,6 +98,20 @@ public class Board {
         return piece(position) != null;
     }
 
+    /**
+     * Retorna o conjunto de movimentos de uso temporário do tabuleiro, vazio.
+     * Há um só conjunto por tabuleiro: o conteúdo só vale até a próxima chamada, quem o usa não
+     * pode chamar outro método que também o use (ex: {@link Piece#possibleMove}) enquanto o
+     * percorre, e o tabuleiro deve ser usado por uma thread de cada vez.
+     */
+    MoveSet scratchMoves() {
+        if (scratchMoves == null) {
+            scratchMoves = new MoveSet(this);
+        }
+        scratchMoves.clear();
+        return scratchMoves;
+    }
+
     public int getRows() {
         return rows;
     }
@@ -0,0 +1,101 @@
+package boardgame;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto esparso de casas de destino de uma peça.
+ * <p>
+ * Guarda as casas em uma lista compacta de índices ({@code linha * colunas + coluna}) e,
+ * para consultas de pertinência em tempo constante, um bitset com um bit por casa.
+ * Percorrer e limpar o conjunto custa proporcional ao número de movimentos, e não à área
+ * do tabuleiro, o que permite reutilizar a mesma instância em tabuleiros grandes.
+ */
+public class MoveSet {
+    private final int rows;
+    private final int columns;
+    private final long[] bits;
+    private int[] squares = new int[16];
+    private int size;
+
+    public MoveSet(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.bits = new long[(rows * columns + 63) >>> 6];
+    }
+
+    // Cria um conjunto vazio com as dimensões do tabuleiro
+    public MoveSet(Board board) {
+        this(board.getRows(), board.getColumns());
+    }
+
+    // Adiciona a casa de índice informado (sem efeito se ela já estiver no conjunto)
+    public void add(int square) {
+        long mask = 1L << square;
+        if ((bits[square >>> 6] & mask) != 0) {
+            return;
+        }
+        bits[square >>> 6] |= mask;
+        if (size == squares.length) {
+            squares = Arrays.copyOf(squares, size * 2);
+        }
+        squares[size++] = square;
+    }
+
+    public void add(int row, int column) {
+        add(row * columns + column);
+    }
+
+    public boolean contains(int square) {
+        return (bits[square >>> 6] & (1L << square)) != 0;
+    }
+
+    public boolean contains(int row, int column) {
+        return contains(row * columns + column);
+    }
+
+    public boolean contains(Position position) {
+        return contains(position.getRow(), position.getColumn());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Índice da i-ésima casa do conjunto, na ordem em que foi adicionada
+    public int square(int i) {
+        return squares[i];
+    }
+
+    public int row(int i) {
+        return squares[i] / columns;
+    }
+
+    public int column(int i) {
+        return squares[i] % columns;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    // Esvazia o conjunto para reutilização
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            bits[squares[i] >>> 6] = 0;
+        }
+        size = 0;
+    }
+
+    // Converte para a matriz booleana densa usada pela interface
+    public boolean[][] toMatrix() {
+        boolean[][] mat = new boolean[rows][columns];
+        for (int i = 0; i < size; i++) {
+            mat[squares[i] / columns][squares[i] % columns] = true;
+        }
+        return mat;
+    }
+}
@@ -10,32 +10,57 @@ public abstract class Piece {
 
     public abstract boolean[][] possibleMoves();
 
+    /**
+     * Adiciona ao conjunto informado as casas para onde a peça pode se mover.
+     * A implementação padrão converte a matriz de {@link #possibleMoves()}; peças que
+     * geram movimentos diretamente devem sobrescrever este metodo.
+     *
+     * @param out conjunto de destino, com as dimensões do tabuleiro
+     */
+    public void possibleMoves(MoveSet out) {
+        boolean[][] mat = possibleMoves();
+        for (int i = 0; i < mat.length; i++) {
+            for (int j = 0; j < mat[i].length; j++) {
+                if (mat[i][j]) {
+                    out.add(i, j);
+                }
+            }
+        }
+    }
+
+    // Retorna um novo conjunto esparso com os movimentos possíveis da peça
+    public MoveSet moveSet() {
+        MoveSet moves = new MoveSet(board);
+        possibleMoves(moves);
+        return moves;
+    }
+
     /**
      * Verifica se uma posição específica é um movimento possível.
      *
+     * Usa o conjunto temporário do tabuleiro: o tabuleiro deve ser usado por uma thread de cada
+     * vez, e o método não pode ser chamado de dentro de {@link #possibleMoves(MoveSet)}.
+     *
      * @param position A posição de destino que queremos verificar (linha e coluna).
      * @return 'true' se a peça pode se mover para a posição fornecida, 'false' caso contrário.
      */
     public boolean possibleMove(Position position) {
-        return possibleMoves()[position.getRow()][position.getColumn()];
+        MoveSet moves = board.scratchMoves();
+        possibleMoves(moves);
+        return moves.contains(position);
     }
 
     /**
      * Verifica se existe PELO MENOS UM movimento possível para a peça.
+     * Tem as mesmas restrições de {@link #possibleMove(Position)}.
      *
      * @return 'true' se houver ao menos um movimento possível, 'false' se a peça
      * estiver sem movimentos.
      */
     public boolean isThereAnyPossibleMove() {
-        boolean[][] mat = possibleMoves();
-        for (int i = 0; i < mat.length; i++) {
-            for (int j = 0; j < mat.length; j++) {
-                if (mat[i][j]) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        MoveSet moves = board.scratchMoves();
+        possibleMoves(moves);
+        return !moves.isEmpty();
     }
 
     protected Board getBoard() {
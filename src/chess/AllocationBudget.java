@@ -0,0 +1,205 @@
+package chess;
+
+import boardgame.MoveSet;
+import boardgame.Position;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Verificação de regressão de alocação nos caminhos quentes do motor de regras.
+ * <p>
+ * Percorre um corpus fixo de posições (uma partida aleatória com semente fixa), mede os bytes
+ * alocados por operação com {@code ThreadMXBean.getCurrentThreadAllocatedBytes} e compara com o
+ * orçamento de cada metodo em {@link #BUDGETS}. Termina com código 1 se algum orçamento for
+ * excedido, para poder rodar junto com o build. Fica no pacote {@code chess} para alcançar
+ * testCheck, testcheckMate e ChessPosition.fromPosition.
+ * <p>
+ * Ao reduzir a alocação de um metodo, diminua também o orçamento dele aqui.
+ */
+public class AllocationBudget {
+    // Bytes por operação permitidos, por metodo
+    private static final Map<String, Long> BUDGETS = new LinkedHashMap<>();
+
+    static {
+        // Position + ChessPosition
+        BUDGETS.put("ChessPosition.fromPosition", 48L);
+        // MoveSet + matriz booleana 8x8
+        BUDGETS.put("ChessPiece.possibleMoves", 384L);
+        // Conjunto reutilizado: nada além de um eventual crescimento da lista
+        BUDGETS.put("ChessPiece.possibleMoves(MoveSet)", 16L);
+        BUDGETS.put("ChessMatch.testCheck", 64L);
+        BUDGETS.put("ChessMatch.testcheckMate", 64L);
+        BUDGETS.put("ChessMatch.legalMoves", 4_096L);
+        BUDGETS.put("ChessMatch.performChessMove", 512L);
+    }
+
+    private static final int CORPUS_PLIES = 80;
+    private static final long SEED = 2024;
+    private static final int WARMUP_ROUNDS = 300;
+    private static final int ROUNDS = 200;
+    // Recebe o resultado das rodadas; por ser volatile, o JIT não pode descartar o trabalho
+    private static volatile long sink;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        List<ChessMove> corpus = new ArrayList<>();
+        List<MatchState> positions = new ArrayList<>();
+        buildCorpus(corpus, positions);
+
+        Map<String, Long> measured = new LinkedHashMap<>();
+        measured.put("ChessPosition.fromPosition", measure(() -> fromPosition(), 64));
+        List<ChessPiece> pieces = piecesOf(positions);
+        measured.put("ChessPiece.possibleMoves", measurePossibleMoves(pieces));
+        measured.put("ChessPiece.possibleMoves(MoveSet)", measureMoveSet(pieces));
+        measured.put("ChessMatch.testCheck", measureMatches(positions, m -> m.testCheck(m.getCurrentPlayer())));
+        measured.put("ChessMatch.testcheckMate", measureMatches(positions, m -> m.testcheckMate(m.getCurrentPlayer())));
+        measured.put("ChessMatch.legalMoves", measureMatches(positions, ChessMatch::legalMoves));
+        measured.put("ChessMatch.performChessMove", measurePerformChessMove(corpus, positions));
+
+        boolean failed = false;
+        System.out.printf("%-34s %12s %12s%n", "metodo", "bytes/op", "orçamento");
+        for (Map.Entry<String, Long> e : measured.entrySet()) {
+            long budget = BUDGETS.get(e.getKey());
+            boolean over = e.getValue() > budget;
+            failed |= over;
+            System.out.printf("%-34s %12d %12d%s%n", e.getKey(), e.getValue(), budget, over ? "  EXCEDIDO" : "");
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    // Joga uma partida aleatória com semente fixa, guardando as jogadas e o estado antes de cada uma
+    private static void buildCorpus(List<ChessMove> corpus, List<MatchState> positions) {
+        Random random = new Random(SEED);
+        ChessMatch match = new ChessMatch();
+        for (int i = 0; i < CORPUS_PLIES && !match.getCheckMate(); i++) {
+            List<ChessMove> legalMoves = match.legalMoves();
+            if (legalMoves.isEmpty()) {
+                break;
+            }
+            ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+            positions.add(match.getState());
+            corpus.add(move);
+            match.performChessMove(move.getSource(), move.getTarget());
+        }
+    }
+
+    private static int fromPosition() {
+        int sum = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                sum += ChessPosition.fromPosition(new Position(row, column)).getRow();
+            }
+        }
+        return sum;
+    }
+
+    private static List<ChessPiece> piecesOf(List<MatchState> positions) {
+        List<ChessPiece> pieces = new ArrayList<>();
+        for (MatchState state : positions) {
+            for (ChessPiece[] row : new ChessMatch(state).getPieces()) {
+                for (ChessPiece piece : row) {
+                    if (piece != null) {
+                        pieces.add(piece);
+                    }
+                }
+            }
+        }
+        return pieces;
+    }
+
+    private static long measurePossibleMoves(List<ChessPiece> pieces) {
+        return measure(() -> {
+            int sum = 0;
+            for (ChessPiece piece : pieces) {
+                sum += piece.possibleMoves().length;
+            }
+            return sum;
+        }, pieces.size());
+    }
+
+    private static long measureMoveSet(List<ChessPiece> pieces) {
+        MoveSet moves = new MoveSet(8, 8);
+        return measure(() -> {
+            int sum = 0;
+            for (ChessPiece piece : pieces) {
+                moves.clear();
+                piece.possibleMoves(moves);
+                sum += moves.size();
+            }
+            return sum;
+        }, pieces.size());
+    }
+
+    private static long measureMatches(List<MatchState> positions, Operation operation) {
+        List<ChessMatch> matches = new ArrayList<>();
+        for (MatchState state : positions) {
+            matches.add(new ChessMatch(state));
+        }
+        return measure(() -> {
+            int sum = 0;
+            for (ChessMatch match : matches) {
+                sum += operation.run(match) == null ? 0 : 1;
+            }
+            return sum;
+        }, matches.size());
+    }
+
+    // Custo da jogada descontando a criação da partida usada para aplicá-la
+    private static long measurePerformChessMove(List<ChessMove> corpus, List<MatchState> positions) {
+        long construct = measure(() -> {
+            int sum = 0;
+            for (MatchState state : positions) {
+                sum += new ChessMatch(state).getTurn();
+            }
+            return sum;
+        }, positions.size());
+        long total = measure(() -> {
+            int sum = 0;
+            for (int i = 0; i < corpus.size(); i++) {
+                ChessMatch match = new ChessMatch(positions.get(i));
+                ChessMove move = corpus.get(i);
+                sum += match.performChessMove(move.getSource(), move.getTarget()) == null ? 0 : 1;
+            }
+            return sum;
+        }, corpus.size());
+        return Math.max(0, total - construct);
+    }
+
+    /**
+     * Executa a rodada várias vezes (após o aquecimento do JIT) e retorna os bytes alocados
+     * por operação.
+     *
+     * @param round      rodada a medir; o retorno evita que o JIT elimine o trabalho
+     * @param operations número de operações em uma rodada
+     */
+    private static long measure(Round round, int operations) {
+        long sum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sum += round.run();
+        }
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ROUNDS; i++) {
+            sum += round.run();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+        sink = sum;
+        return allocated / ((long) ROUNDS * operations);
+    }
+
+    private interface Round {
+        int run();
+    }
+
+    private interface Operation {
+        Object run(ChessMatch match);
+    }
+}
@@ -1,30 +1,135 @@
 package chess;
 
 import boardgame.Board;
+import boardgame.MoveSet;
 import boardgame.Piece;
 import boardgame.Position;
+import chess.jfr.BoardChangeEvent;
+import chess.jfr.CheckMateTestEvent;
+import chess.jfr.CheckTestEvent;
+import chess.jfr.MoveEvent;
+import chess.metrics.EngineMetrics;
+import chess.pieces.AttackMap;
+import chess.pieces.Bishop;
 import chess.pieces.King;
+import chess.pieces.Knight;
 import chess.pieces.Pawn;
+import chess.pieces.Queen;
 import chess.pieces.Rook;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ChessMatch {
+    private static final EngineMetrics METRICS = EngineMetrics.getInstance();
+
     private Board board;
+    private final AttackMap attacks;
+    //Rei de cada cor, por Color.ordinal()
+    private final ChessPiece[] kings = new ChessPiece[Color.values().length];
     private int turn;
     private Color currentPlayer;
     private List<Piece> piecesOnTheBoard = new ArrayList<>();
     private List<Piece> capturedPieces = new ArrayList<>();
     private boolean check;
     private boolean checkMate;
+    private long moveCount;
+    // Jogadas de teste feitas pela verificação de xeque-mate na jogada atual (para os eventos JFR)
+    private int trialMoves;
+    private Piece[] trialPieces = new Piece[32];
+    //Conjunto reutilizado nas jogadas de teste
+    private final MoveSet trialMoveSet = new MoveSet(8, 8);
+    private final List<MoveListener> moveListeners = new ArrayList<>();
+    //Peças de posições anteriores, reaproveitadas por loadState, por tipo e cor
+    private final List<List<ChessPiece>> sparePieces = new ArrayList<>();
 
     // Cria um tabuleiro 8x8 e configura as peças iniciais
     public ChessMatch() {
         this.board = new Board(8, 8);
+        this.attacks = new AttackMap(board);
         turn = 1;
         currentPlayer = Color.WHITE;
         initialSetup();
+        resetAttacks();
+    }
+
+    /**
+     * Recria uma partida a partir de um estado salvo com {@link #getState()}.
+     * As peças capturadas anteriormente não são restauradas.
+     *
+     * @param state estado da partida
+     * @throws ChessException se o estado contiver uma peça desconhecida
+     */
+    public ChessMatch(MatchState state) {
+        this.board = new Board(8, 8);
+        this.attacks = new AttackMap(board);
+        loadState(state);
+    }
+
+    /**
+     * Substitui a posição desta partida por um estado salvo, reaproveitando o tabuleiro.
+     * Permite avaliar várias posições com uma única instância. As peças capturadas são
+     * descartadas e os {@link MoveListener}s registrados não são notificados.
+     * <p>
+     * As peças da posição anterior são reaproveitadas na nova, então referências obtidas antes
+     * (por {@link #getPieces()} ou {@link #performChessMove}) não devem ser usadas depois.
+     *
+     * @param state estado da partida
+     * @throws ChessException se o estado contiver uma peça desconhecida
+     */
+    public void loadState(MatchState state) {
+        for (int i = 0; i < piecesOnTheBoard.size(); i++) {
+            ChessPiece piece = (ChessPiece) piecesOnTheBoard.get(i);
+            board.removePiece(piece.getPosition());
+            spares(piece.toString().charAt(0), piece.getColor()).add(piece);
+        }
+        for (int i = 0; i < capturedPieces.size(); i++) {
+            ChessPiece piece = (ChessPiece) capturedPieces.get(i);
+            spares(piece.toString().charAt(0), piece.getColor()).add(piece);
+        }
+        piecesOnTheBoard.clear();
+        capturedPieces.clear();
+        turn = state.getTurn();
+        currentPlayer = state.getCurrentPlayer();
+        check = state.getCheck();
+        checkMate = state.getCheckMate();
+        moveCount = state.getMoveCount();
+        for (int square = 0; square < MatchState.SQUARES; square++) {
+            char type = state.pieceType(square);
+            if (type != 0) {
+                ChessPiece piece = reusePiece(type, state.pieceColor(square));
+                if (state.hasMoved(square)) {
+                    piece.increaseMoveCount();
+                }
+                board.placePiece(piece, new Position(square / 8, square % 8));
+                piecesOnTheBoard.add(piece);
+            }
+        }
+        resetAttacks();
+    }
+
+    // Recalcula o mapa de ataques e localiza os reis depois de montar uma posição inteira
+    private void resetAttacks() {
+        Arrays.fill(kings, null);
+        for (int i = 0; i < piecesOnTheBoard.size(); i++) {
+            ChessPiece p = (ChessPiece) piecesOnTheBoard.get(i);
+            if (p instanceof King) {
+                kings[p.getColor().ordinal()] = p;
+            }
+        }
+        attacks.recompute(piecesOnTheBoard);
+    }
+
+    // Retorna uma cópia compacta e imutável do estado atual da partida
+    public MatchState getState() {
+        byte[] squares = new byte[MatchState.SQUARES];
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getColumns(); j++) {
+                squares[i * 8 + j] = MatchState.encode((ChessPiece) board.piece(i, j));
+            }
+        }
+        return new MatchState(squares, turn, currentPlayer, check, checkMate, moveCount);
     }
 
     /**
@@ -52,7 +157,41 @@ public class ChessMatch {
     public boolean[][] possibleMoves(ChessPosition sourcePosition) {
         Position position = sourcePosition.toPosition();
         validateSourcePosition(position);
-        return board.piece(position).possibleMoves();
+        return movesOf(board.piece(position));
+    }
+
+    /**
+     * Lista todos os movimentos legais do jogador atual, ou seja, os movimentos
+     * possíveis que não deixam o próprio rei em xeque.
+     *
+     * @return lista de movimentos legais (vazia em caso de xeque-mate ou afogamento)
+     */
+    public List<ChessMove> legalMoves() {
+        List<ChessMove> moves = new ArrayList<>();
+        if (checkMate) {
+            return moves;
+        }
+        int count = collectPieces(currentPlayer);
+        for (int k = 0; k < count; k++) {
+            Piece p = trialPieces[k];
+            MoveSet targets = movesOf(p, trialMoveSet);
+            Position source = ((ChessPiece) p).getPosition();
+            boolean king = p instanceof King;
+            for (int i = 0; i < targets.size(); i++) {
+                //O rei não pode ir para uma casa atacada; nesse caso a jogada de teste é dispensada
+                if (king && attacks.isAttacked(targets.square(i), opponent(currentPlayer))) {
+                    continue;
+                }
+                Position target = new Position(targets.row(i), targets.column(i));
+                Piece capturedPiece = makeMove(source, target);
+                boolean testCheck = testCheck(currentPlayer);
+                undoMove(source, target, capturedPiece);
+                if (!testCheck) {
+                    moves.add(new ChessMove(ChessPosition.fromPosition(source), ChessPosition.fromPosition(target)));
+                }
+            }
+        }
+        return moves;
     }
 
     /**
@@ -64,6 +203,36 @@ public class ChessMatch {
      * @throws ChessException se o movimento não for válido
      */
     public ChessPiece performChessMove(ChessPosition sourcePosition, ChessPosition targetPosition) {
+        MoveEvent event = new MoveEvent();
+        event.begin();
+        int moveTurn = turn;
+        boolean measured = METRICS.isEnabled();
+        long start = measured ? System.nanoTime() : 0;
+        trialMoves = 0;
+        try {
+            ChessPiece capturedPiece = applyChessMove(sourcePosition, targetPosition);
+            if (measured) {
+                METRICS.recordMove(System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.set(moveTurn, square(sourcePosition), square(targetPosition), trialMoves,
+                        checkMate ? "CHECKMATE" : check ? "CHECK" : "OK");
+                event.commit();
+            }
+            return capturedPiece;
+        } catch (ChessException e) {
+            if (measured) {
+                METRICS.recordRejectedMove();
+            }
+            if (event.shouldCommit()) {
+                event.set(moveTurn, square(sourcePosition), square(targetPosition), trialMoves, "REJECTED");
+                event.commit();
+            }
+            throw e;
+        }
+    }
+
+    private ChessPiece applyChessMove(ChessPosition sourcePosition, ChessPosition targetPosition) {
         Position source = sourcePosition.toPosition();
         Position target = targetPosition.toPosition();
         validateSourcePosition(source);
@@ -80,9 +249,33 @@ public class ChessMatch {
         } else {
             nextTurn();
         }
+        moveCount++;
+        if (!moveListeners.isEmpty()) {
+            publishMove(sourcePosition, targetPosition, (ChessPiece) capturedPiece);
+        }
         return (ChessPiece) capturedPiece;
     }
 
+    /**
+     * Registra um ouvinte que será notificado, com uma {@link MoveDelta},
+     * após cada jogada aceita.
+     */
+    public void addMoveListener(MoveListener listener) {
+        moveListeners.add(listener);
+    }
+
+    public void removeMoveListener(MoveListener listener) {
+        moveListeners.remove(listener);
+    }
+
+    private void publishMove(ChessPosition source, ChessPosition target, ChessPiece capturedPiece) {
+        MoveDelta delta = new MoveDelta(moveCount, source, target, MatchState.pieceCode(capturedPiece),
+                check, checkMate, turn, currentPlayer);
+        for (MoveListener listener : moveListeners) {
+            listener.onMove(delta);
+        }
+    }
+
     /**
      * Valida se a posição de origem contém uma peça válida para o jogador atual.
      *
@@ -98,6 +291,7 @@ public class ChessMatch {
         if (currentPlayer != ((ChessPiece) board.piece(position)).getColor()) {
             throw new ChessException("A peça escolhida não é sua");
         }
+        countPossibleMoves(board.piece(position));
         if (!board.piece(position).isThereAnyPossibleMove()) {
             throw new ChessException("Não existe movimentos possiveis para a peça escolhida");
         }
@@ -111,6 +305,7 @@ public class ChessMatch {
      * @throws ChessException caso o movimento não seja permitido
      */
     private void validateTargetPosition(Position source, Position target) {
+        //Confere só o destino nas tabelas de movimento, sem gerar os movimentos da peça
         if (!board.piece(source).possibleMove(target)) {
             throw new ChessException("A peça escolhida não pode se mover para a posição de destino");
         }
@@ -125,15 +320,32 @@ public class ChessMatch {
      * @return peça capturada, caso exista
      */
     private Piece makeMove(Position source, Position target) {
+        BoardChangeEvent event = new BoardChangeEvent();
+        event.begin();
+        //O mapa de ataques acompanha cada alteração do tabuleiro
+        attacks.vacate(index(source));
         ChessPiece p = (ChessPiece) board.removePiece(source);
         p.increaseMoveCount();
-        Piece capturedPiece = board.removePiece(target);
+        Piece capturedPiece = board.piece(target);
+        if (capturedPiece != null) {
+            attacks.remove((ChessPiece) capturedPiece);
+            board.removePiece(target);
+        }
         board.placePiece(p, target);
+        if (capturedPiece != null) {
+            attacks.add(p);
+        } else {
+            attacks.occupy(index(target));
+        }
 
         if (capturedPiece != null) {
             piecesOnTheBoard.remove(capturedPiece);
             capturedPieces.add(capturedPiece);
         }
+        if (event.shouldCommit()) {
+            event.set(false, square(source), square(target), capturedPiece != null);
+            event.commit();
+        }
         return capturedPiece;
     }
 
@@ -146,15 +358,29 @@ public class ChessMatch {
      * @param capturedPiece: A peça que foi capturada durante a jogada. Se nenhuma peça foi capturada, este valor é null.
      */
     private void undoMove(Position source, Position target, Piece capturedPiece) {
-        ChessPiece p = (ChessPiece) board.removePiece(target);
+        BoardChangeEvent event = new BoardChangeEvent();
+        event.begin();
+        ChessPiece p = (ChessPiece) board.piece(target);
+        if (capturedPiece != null) {
+            attacks.remove(p);
+        } else {
+            attacks.vacate(index(target));
+        }
+        board.removePiece(target);
         p.decreaseMoveCount();
-        board.placePiece(p, source);
 
         if (capturedPiece != null) {
             board.placePiece(capturedPiece, target);
+            attacks.add((ChessPiece) capturedPiece);
             capturedPieces.remove(capturedPiece);
             piecesOnTheBoard.add(capturedPiece);
         }
+        board.placePiece(p, source);
+        attacks.occupy(index(source));
+        if (event.shouldCommit()) {
+            event.set(true, square(source), square(target), capturedPiece != null);
+            event.commit();
+        }
     }
 
     /**
@@ -175,14 +401,9 @@ public class ChessMatch {
      * @return A instância de ChessPiece que corresponde ao rei da cor especificada.
      */
     private ChessPiece king(Color color) {
-        List<Piece> list = piecesOnTheBoard.stream()
-                .filter(x -> ((ChessPiece) x).getColor() == color)
-                .toList();
-
-        for (Piece p : list) {
-            if (p instanceof King) {
-                return (ChessPiece) p;
-            }
+        ChessPiece p = kings[color.ordinal()];
+        if (p != null && p.getPosition() != null) {
+            return p;
         }
         throw new IllegalStateException("Não há " + color + " rei no tabuleiro");
     }
@@ -190,24 +411,30 @@ public class ChessMatch {
     /**
      * Verifica se o rei de uma determinada cor está em situação de xeque.
      * <p>
-     * Para isso, analisa todas as peças do adversário e verifica se alguma delas
-     * tem um movimento possível que ameace a posição atual do rei.
+     * Para isso, consulta no mapa de ataques se alguma peça do adversário ataca
+     * a casa atual do rei.
      *
      * @param color A cor do rei a ser verificado (ex: {@code Color.WHITE} ou {@code Color.BLACK}).
      * @return {@code true} se o rei estiver em xeque, {@code false} caso contrário.
      */
-    private boolean testCheck(Color color) {
-        Position kingPosition = king(color).getChessPosition().toPosition();
-        List<Piece> opponentPieces = piecesOnTheBoard.stream()
-                .filter(x -> ((ChessPiece) x).getColor() == opponent(color)).toList();
-
-        for (Piece p : opponentPieces) {
-            boolean[][] matriz = p.possibleMoves();
-            if (matriz[kingPosition.getRow()][kingPosition.getColumn()]) {
-                return true;
-            }
+    boolean testCheck(Color color) {
+        CheckTestEvent event = new CheckTestEvent();
+        event.begin();
+        boolean measured = METRICS.isEnabled();
+        long start = measured ? System.nanoTime() : 0;
+        boolean result = computeCheck(color);
+        if (measured) {
+            METRICS.recordCheckTest(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.set(turn, color.name(), result);
+            event.commit();
         }
-        return false;
+        return result;
+    }
+
+    private boolean computeCheck(Color color) {
+        return attacks.isAttacked(index(king(color).getPosition()), opponent(color));
     }
 
     /**
@@ -223,33 +450,105 @@ public class ChessMatch {
      * @return {@code true} se o jogador estiver em xeque-mate, {@code false} caso contrário.
      * @see #testCheck(Color)
      */
-    private boolean testcheckMate(Color color) {
+    boolean testcheckMate(Color color) {
+        CheckMateTestEvent event = new CheckMateTestEvent();
+        event.begin();
+        boolean measured = METRICS.isEnabled();
+        long start = measured ? System.nanoTime() : 0;
+        int trialsBefore = trialMoves;
+        boolean result = computeCheckMate(color);
+        if (measured) {
+            METRICS.recordCheckMateTest(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.set(turn, color.name(), trialMoves - trialsBefore, result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private boolean computeCheckMate(Color color) {
         if (!testCheck(color)) {
             return false;
         }
-        List<Piece> list = piecesOnTheBoard.stream()
-                .filter(x -> ((ChessPiece) x).getColor() == color).toList();
-
-        for (Piece p : list) {
-            boolean[][] mat = p.possibleMoves();
-            for (int i = 0; i < board.getRows(); i++) {
-                for (int j = 0; j < board.getColumns(); j++) {
-                    if (mat[i][j]) {
-                        Position source = ((ChessPiece) p).getChessPosition().toPosition();
-                        Position target = new Position(i, j);
-                        Piece capturedPiece = makeMove(source, target);
-                        boolean testCheck = testCheck(color);
-                        undoMove(source, target, capturedPiece);
-                        if (!testCheck) {
-                            return false;
-                        }
-                    }
+        int count = collectPieces(color);
+        for (int k = 0; k < count; k++) {
+            Piece p = trialPieces[k];
+            MoveSet targets = movesOf(p, trialMoveSet);
+            Position source = ((ChessPiece) p).getPosition();
+            boolean king = p instanceof King;
+            for (int i = 0; i < targets.size(); i++) {
+                if (king && attacks.isAttacked(targets.square(i), opponent(color))) {
+                    continue;
+                }
+                Position target = new Position(targets.row(i), targets.column(i));
+                trialMoves++;
+                Piece capturedPiece = makeMove(source, target);
+                boolean testCheck = testCheck(color);
+                undoMove(source, target, capturedPiece);
+                if (!testCheck) {
+                    return false;
                 }
             }
         }
         return true;
     }
 
+    /**
+     * Copia as peças de uma cor para {@code trialPieces}, já que as jogadas de teste alteram
+     * {@code piecesOnTheBoard} durante a iteração. Usado por legalMoves e testcheckMate,
+     * que nunca são chamados um dentro do outro.
+     *
+     * @return quantidade de peças copiadas
+     */
+    private int collectPieces(Color color) {
+        if (trialPieces.length < piecesOnTheBoard.size()) {
+            trialPieces = new Piece[piecesOnTheBoard.size()];
+        }
+        int count = 0;
+        for (int i = 0; i < piecesOnTheBoard.size(); i++) {
+            Piece p = piecesOnTheBoard.get(i);
+            if (((ChessPiece) p).getColor() == color) {
+                trialPieces[count++] = p;
+            }
+        }
+        return count;
+    }
+
+    // Índice da casa no mapa de ataques
+    private int index(Position position) {
+        return position.getRow() * board.getColumns() + position.getColumn();
+    }
+
+    // Casa no formato de xadrez (ex: "e2"), usada nos eventos JFR
+    private static String square(ChessPosition position) {
+        return "" + position.getColumn() + position.getRow();
+    }
+
+    private String square(Position position) {
+        return "" + (char) ('a' + position.getColumn()) + (board.getRows() - position.getRow());
+    }
+
+    // Movimentos possíveis de uma peça, contabilizados nas métricas do motor
+    private boolean[][] movesOf(Piece p) {
+        countPossibleMoves(p);
+        return p.possibleMoves();
+    }
+
+    // Mesmo que movesOf, mas reaproveitando o conjunto esparso informado
+    private MoveSet movesOf(Piece p, MoveSet out) {
+        countPossibleMoves(p);
+        out.clear();
+        p.possibleMoves(out);
+        return out;
+    }
+
+    private void countPossibleMoves(Piece p) {
+        if (METRICS.isEnabled()) {
+            METRICS.recordPossibleMoves(p.toString().charAt(0));
+        }
+    }
+
     /**
      * Posiciona uma nova peça no tabuleiro usando coordenadas no formato do xadrez.
      *
@@ -262,10 +561,52 @@ public class ChessMatch {
         piecesOnTheBoard.add(piece);
     }
 
+    // Peça de loadState: uma sobra de mesmo tipo e cor com a contagem de movimentos zerada, ou nova
+    private ChessPiece reusePiece(char type, Color color) {
+        List<ChessPiece> spares = spares(type, color);
+        if (spares.isEmpty()) {
+            return newPiece(type, color);
+        }
+        ChessPiece piece = spares.remove(spares.size() - 1);
+        piece.resetMoveCount();
+        return piece;
+    }
+
+    private List<ChessPiece> spares(char type, Color color) {
+        if (sparePieces.isEmpty()) {
+            for (int i = 0; i < 2 * MatchState.PIECE_TYPES.length(); i++) {
+                sparePieces.add(new ArrayList<>());
+            }
+        }
+        int index = MatchState.PIECE_TYPES.indexOf(type);
+        if (index < 0) {
+            throw new ChessException("Peça desconhecida: " + type);
+        }
+        return sparePieces.get(color == Color.BLACK ? index + MatchState.PIECE_TYPES.length() : index);
+    }
+
+    // Cria uma peça a partir da letra do seu tipo
+    private ChessPiece newPiece(char type, Color color) {
+        return switch (type) {
+            case 'K' -> new King(board, color);
+            case 'Q' -> new Queen(board, color);
+            case 'R' -> new Rook(board, color);
+            case 'B' -> new Bishop(board, color);
+            case 'N' -> new Knight(board, color);
+            case 'P' -> new Pawn(board, color);
+            default -> throw new ChessException("Peça desconhecida: " + type);
+        };
+    }
+
     // Coloca as peças nas posições iniciais do jogo
     private void initialSetup() {
         placeNewPiece('a', 1, new Rook(board, Color.WHITE));
+        placeNewPiece('b', 1, new Knight(board, Color.WHITE));
+        placeNewPiece('c', 1, new Bishop(board, Color.WHITE));
+        placeNewPiece('d', 1, new Queen(board, Color.WHITE));
         placeNewPiece('e', 1, new King(board, Color.WHITE));
+        placeNewPiece('f', 1, new Bishop(board, Color.WHITE));
+        placeNewPiece('g', 1, new Knight(board, Color.WHITE));
         placeNewPiece('h', 1, new Rook(board, Color.WHITE));
         placeNewPiece('a', 2, new Pawn(board, Color.WHITE));
         placeNewPiece('b', 2, new Pawn(board, Color.WHITE));
@@ -277,7 +618,12 @@ public class ChessMatch {
         placeNewPiece('h', 2, new Pawn(board, Color.WHITE));
 
         placeNewPiece('a', 8, new Rook(board, Color.BLACK));
+        placeNewPiece('b', 8, new Knight(board, Color.BLACK));
+        placeNewPiece('c', 8, new Bishop(board, Color.BLACK));
+        placeNewPiece('d', 8, new Queen(board, Color.BLACK));
         placeNewPiece('e', 8, new King(board, Color.BLACK));
+        placeNewPiece('f', 8, new Bishop(board, Color.BLACK));
+        placeNewPiece('g', 8, new Knight(board, Color.BLACK));
         placeNewPiece('h', 8, new Rook(board, Color.BLACK));
         placeNewPiece('a', 7, new Pawn(board, Color.BLACK));
         placeNewPiece('b', 7, new Pawn(board, Color.BLACK));
@@ -310,4 +656,27 @@ public class ChessMatch {
     public boolean getCheckMate() {
         return checkMate;
     }
+
+    /**
+     * Verifica, na posição atual, se o rei da cor informada está atacado.
+     * Diferente de {@link #getCheck()}, não depende do resultado da última jogada.
+     */
+    public boolean isInCheck(Color color) {
+        return testCheck(color);
+    }
+
+    // Verifica se alguma peça da cor informada ataca a casa
+    public boolean isAttacked(ChessPosition position, Color by) {
+        return attacks.isAttacked(index(position.toPosition()), by);
+    }
+
+    // Verifica, na posição atual, se a cor informada está em xeque-mate
+    public boolean isCheckMate(Color color) {
+        return testcheckMate(color);
+    }
+
+    // Número de jogadas aceitas desde o início da partida
+    public long getMoveCount() {
+        return moveCount;
+    }
 }
@@ -0,0 +1,60 @@
+package chess;
+
+import java.util.Objects;
+
+public class ChessMove {
+    private final ChessPosition source;
+    private final ChessPosition target;
+
+    public ChessMove(ChessPosition source, ChessPosition target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    /**
+     * Lê um movimento no formato de coordenadas (ex: "e2e4" ou "e2 e4").
+     *
+     * @param text texto com as casas de origem e destino
+     * @return o movimento correspondente
+     * @throws ChessException caso o texto não esteja no formato correto
+     */
+    public static ChessMove parse(String text) {
+        String s = text.replace(" ", "").toLowerCase();
+        if (s.length() != 4 || !Character.isDigit(s.charAt(1)) || !Character.isDigit(s.charAt(3))) {
+            throw new ChessException("Movimento inválido: " + text);
+        }
+        ChessPosition source = new ChessPosition(s.charAt(0), s.charAt(1) - '0');
+        ChessPosition target = new ChessPosition(s.charAt(2), s.charAt(3) - '0');
+        return new ChessMove(source, target);
+    }
+
+    public ChessPosition getSource() {
+        return source;
+    }
+
+    public ChessPosition getTarget() {
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChessMove other)) {
+            return false;
+        }
+        return source.getColumn() == other.source.getColumn() && source.getRow() == other.source.getRow()
+                && target.getColumn() == other.target.getColumn() && target.getRow() == other.target.getRow();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source.getColumn(), source.getRow(), target.getColumn(), target.getRow());
+    }
+
+    @Override
+    public String toString() {
+        return "" + source.getColumn() + source.getRow() + target.getColumn() + target.getRow();
+    }
+}
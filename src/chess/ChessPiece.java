@@ -29,12 +29,22 @@ public abstract class ChessPiece extends Piece {
         moveCount--;
     }
 
+    // Zera a contagem de movimentos, para reaproveitar a peça em outra posição
+    protected void resetMoveCount() {
+        moveCount = 0;
+    }
+
     //Verifica se é uma peça inimiga
     protected boolean isThereOpponentPiece(Position position) {
         ChessPiece p = (ChessPiece) getBoard().piece(position);
         return p != null && p.getColor() != color;
     }
 
+    // Posição interna da peça no tabuleiro, sem conversão (não deve ser alterada)
+    Position getPosition() {
+        return position;
+    }
+
     // Retorna a posição da peça no formato de xadrez(a1 - h1)
     public ChessPosition getChessPosition() {
         return ChessPosition.fromPosition(position);
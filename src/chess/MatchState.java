@@ -0,0 +1,223 @@
+package chess;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Representação compacta e imutável do estado de uma partida, usada para salvar
+ * e restaurar posições (ver {@link ChessMatch#getState()} e {@link ChessMatch#ChessMatch(MatchState)}).
+ * <p>
+ * Cada casa ocupa um byte, na mesma ordem da matriz de {@link ChessMatch#getPieces()}:
+ * bits 0-2 o tipo da peça (0 = vazia), bit 3 a cor preta e bit 4 indica que a peça já se moveu.
+ * A forma serializada tem tamanho fixo de {@link #BYTES} bytes.
+ */
+public class MatchState {
+    public static final int SQUARES = 64;
+    public static final int BYTES = SQUARES + 4 + 8 + 1;
+
+    // Tipos de peça na ordem dos códigos 1 a 6
+    static final String PIECE_TYPES = "PNBRQK";
+    private static final int BLACK = 8;
+    private static final int MOVED = 16;
+
+    private final byte[] squares;
+    private final int turn;
+    private final Color currentPlayer;
+    private final boolean check;
+    private final boolean checkMate;
+    private final long moveCount;
+
+    MatchState(byte[] squares, int turn, Color currentPlayer, boolean check, boolean checkMate, long moveCount) {
+        if (squares.length != SQUARES) {
+            throw new ChessException("Estado inválido: são esperadas " + SQUARES + " casas");
+        }
+        this.squares = squares;
+        this.turn = turn;
+        this.currentPlayer = currentPlayer;
+        this.check = check;
+        this.checkMate = checkMate;
+        this.moveCount = moveCount;
+    }
+
+    // Código de uma peça para a representação compacta
+    static byte encode(ChessPiece piece) {
+        if (piece == null) {
+            return 0;
+        }
+        int code = PIECE_TYPES.indexOf(piece.toString().charAt(0)) + 1;
+        if (piece.getColor() == Color.BLACK) {
+            code |= BLACK;
+        }
+        if (piece.getMoveCount() > 0) {
+            code |= MOVED;
+        }
+        return (byte) code;
+    }
+
+    // Letra do tipo da peça na casa (ex: 'K'), ou 0 se a casa estiver vazia
+    public char pieceType(int square) {
+        int type = squares[square] & 7;
+        return type == 0 ? 0 : PIECE_TYPES.charAt(type - 1);
+    }
+
+    // Letra da peça na casa como na FEN (maiúscula para as brancas), ou 0 se a casa estiver vazia
+    public char pieceCode(int square) {
+        char type = pieceType(square);
+        return type != 0 && pieceColor(square) == Color.BLACK ? Character.toLowerCase(type) : type;
+    }
+
+    // Letra da peça como na FEN (maiúscula para as brancas), ou 0 se a peça for null
+    public static char pieceCode(ChessPiece piece) {
+        if (piece == null) {
+            return 0;
+        }
+        char type = piece.toString().charAt(0);
+        return piece.getColor() == Color.BLACK ? Character.toLowerCase(type) : Character.toUpperCase(type);
+    }
+
+    public Color pieceColor(int square) {
+        return (squares[square] & BLACK) != 0 ? Color.BLACK : Color.WHITE;
+    }
+
+    public boolean hasMoved(int square) {
+        return (squares[square] & MOVED) != 0;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public Color getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public boolean getCheck() {
+        return check;
+    }
+
+    public boolean getCheckMate() {
+        return checkMate;
+    }
+
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MatchState other)) {
+            return false;
+        }
+        return turn == other.turn && currentPlayer == other.currentPlayer && check == other.check
+                && checkMate == other.checkMate && moveCount == other.moveCount
+                && Arrays.equals(squares, other.squares);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(squares) + (int) moveCount;
+    }
+
+    /**
+     * Lê uma posição em notação FEN. Roque, en passant e o contador de meias-jogadas são
+     * ignorados, pois não existem nesta implementação; peões fora da fileira inicial são
+     * marcados como já movidos. Xeque e xeque-mate ficam desmarcados.
+     *
+     * @param fen posição, ex: "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b - - 0 1"
+     * @throws ChessException se a notação for inválida
+     */
+    public static MatchState fromFen(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        String[] ranks = fields[0].split("/");
+        if (ranks.length != 8) {
+            throw new ChessException("FEN inválido: " + fen);
+        }
+        byte[] squares = new byte[SQUARES];
+        for (int row = 0; row < 8; row++) {
+            int column = 0;
+            for (char c : ranks[row].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    column += c - '0';
+                    continue;
+                }
+                int type = PIECE_TYPES.indexOf(Character.toUpperCase(c));
+                if (type < 0 || column > 7) {
+                    throw new ChessException("FEN inválido: " + fen);
+                }
+                boolean black = Character.isLowerCase(c);
+                int code = type + 1;
+                if (black) {
+                    code |= BLACK;
+                }
+                if (c == 'P' && row != 6 || c == 'p' && row != 1) {
+                    code |= MOVED;
+                }
+                squares[row * 8 + column++] = (byte) code;
+            }
+            if (column != 8) {
+                throw new ChessException("FEN inválido: " + fen);
+            }
+        }
+        Color currentPlayer = fields.length > 1 && fields[1].equals("b") ? Color.BLACK : Color.WHITE;
+        int fullMove;
+        try {
+            fullMove = fields.length > 5 ? Math.max(1, Integer.parseInt(fields[5])) : 1;
+        } catch (NumberFormatException e) {
+            throw new ChessException("FEN inválido: " + fen);
+        }
+        int turn = 2 * (fullMove - 1) + (currentPlayer == Color.BLACK ? 2 : 1);
+        return new MatchState(squares, turn, currentPlayer, false, false, turn - 1);
+    }
+
+    // Posição em notação FEN, sem direitos de roque nem casa de en passant
+    public String toFen() {
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < 8; row++) {
+            int empty = 0;
+            for (int column = 0; column < 8; column++) {
+                char code = pieceCode(row * 8 + column);
+                if (code == 0) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    sb.append(empty);
+                    empty = 0;
+                }
+                sb.append(code);
+            }
+            if (empty > 0) {
+                sb.append(empty);
+            }
+            if (row < 7) {
+                sb.append('/');
+            }
+        }
+        sb.append(currentPlayer == Color.BLACK ? " b" : " w");
+        sb.append(" - - 0 ").append((turn + 1) / 2);
+        return sb.toString();
+    }
+
+    // Escreve o estado no buffer, ocupando exatamente BYTES bytes
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(squares);
+        buffer.putInt(turn);
+        buffer.putLong(moveCount);
+        int flags = (currentPlayer == Color.BLACK ? 1 : 0) | (check ? 2 : 0) | (checkMate ? 4 : 0);
+        buffer.put((byte) flags);
+    }
+
+    // Lê um estado escrito por writeTo
+    public static MatchState readFrom(ByteBuffer buffer) {
+        byte[] squares = new byte[SQUARES];
+        buffer.get(squares);
+        int turn = buffer.getInt();
+        long moveCount = buffer.getLong();
+        int flags = buffer.get();
+        return new MatchState(squares, turn, (flags & 1) != 0 ? Color.BLACK : Color.WHITE,
+                (flags & 2) != 0, (flags & 4) != 0, moveCount);
+    }
+}
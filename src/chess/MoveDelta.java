@@ -0,0 +1,84 @@
+package chess;
+
+/**
+ * Descrição compacta de uma jogada aceita, emitida após cada {@link ChessMatch#performChessMove}.
+ * <p>
+ * Aplicar as deltas em ordem sobre o tabuleiro anterior reproduz o tabuleiro atual,
+ * sem precisar reenviar a matriz inteira.
+ * <p>
+ * Guarda só valores imutáveis (a peça capturada vai como letra), então pode ser lida por
+ * outras threads enquanto a partida continua.
+ */
+public class MoveDelta {
+    private final long sequence;
+    private final ChessPosition source;
+    private final ChessPosition target;
+    private final char captured;
+    private final boolean check;
+    private final boolean checkMate;
+    private final int turn;
+    private final Color currentPlayer;
+
+    public MoveDelta(long sequence, ChessPosition source, ChessPosition target, char captured,
+                     boolean check, boolean checkMate, int turn, Color currentPlayer) {
+        this.sequence = sequence;
+        this.source = source;
+        this.target = target;
+        this.captured = captured;
+        this.check = check;
+        this.checkMate = checkMate;
+        this.turn = turn;
+        this.currentPlayer = currentPlayer;
+    }
+
+    // Número da jogada na partida (a primeira jogada aceita é 1)
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ChessPosition getSource() {
+        return source;
+    }
+
+    public ChessPosition getTarget() {
+        return target;
+    }
+
+    // Letra da peça capturada como na FEN (maiúscula para as brancas), ou 0 se não houve captura
+    public char getCaptured() {
+        return captured;
+    }
+
+    public boolean getCheck() {
+        return check;
+    }
+
+    public boolean getCheckMate() {
+        return checkMate;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public Color getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    // Formato: "<seq> <origem><destino> <capturada|-> <turno> <W|B>[ +|#]", ex: "3 d1h5 p 4 B +"
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(24);
+        sb.append(sequence).append(' ')
+                .append(source.getColumn()).append(source.getRow())
+                .append(target.getColumn()).append(target.getRow()).append(' ');
+        sb.append(captured == 0 ? '-' : captured);
+        sb.append(' ').append(turn).append(' ').append(currentPlayer == Color.WHITE ? 'W' : 'B');
+        if (checkMate) {
+            sb.append(" #");
+        } else if (check) {
+            sb.append(" +");
+        }
+        return sb.toString();
+    }
+}
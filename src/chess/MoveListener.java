@@ -0,0 +1,7 @@
+package chess;
+
+// Recebe as jogadas aceitas por um ChessMatch, na thread que executou a jogada
+@FunctionalInterface
+public interface MoveListener {
+    void onMove(MoveDelta delta);
+}
@@ -0,0 +1,83 @@
+package chess.analysis;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.MatchState;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mede a vazão do {@link BatchAnalyzer} com 1, 2, 4... threads até o número de processadores,
+ * e os bytes alocados por posição.
+ * <p>
+ * Argumentos: tipo de análise (padrão SHALLOW_SEARCH), número de posições (padrão 2000),
+ * profundidade da busca (padrão 2) e repetições por medida (padrão 3). As posições vêm de
+ * partidas aleatórias com semente fixa.
+ */
+public class AnalysisBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        AnalysisType type = args.length > 0 ? AnalysisType.valueOf(args[0]) : AnalysisType.SHALLOW_SEARCH;
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int depth = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int repetitions = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        List<MatchState> positions = positions(count);
+
+        double baseline = 0;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads = threads < processors ? Math.min(threads * 2, processors) : threads + 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            BatchAnalyzer analyzer = new BatchAnalyzer(pool, depth);
+            analyzer.analyze(positions, type);
+
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < repetitions; i++) {
+                analyzer.analyze(positions, type);
+            }
+            long nanos = System.nanoTime() - start;
+            allocated = allocatedBytes() - allocated;
+            pool.shutdown();
+
+            double rate = (double) count * repetitions * 1e9 / nanos;
+            if (threads == 1) {
+                baseline = rate;
+            }
+            System.out.printf("%-14s threads %2d: %10.0f posições/s, ganho %5.2fx, %8d bytes/posição%n",
+                    type, threads, rate, rate / baseline, allocated / ((long) count * repetitions));
+        }
+    }
+
+    private static List<MatchState> positions(int count) {
+        Random random = new Random(3);
+        List<MatchState> positions = new ArrayList<>();
+        while (positions.size() < count) {
+            ChessMatch match = new ChessMatch();
+            for (int ply = 0; ply < 80 && positions.size() < count; ply++) {
+                List<ChessMove> legalMoves = match.legalMoves();
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                positions.add(match.getState());
+                ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+                match.performChessMove(move.getSource(), move.getTarget());
+            }
+        }
+        return positions;
+    }
+
+    // Total alocado pelas threads vivas (as do pool continuam vivas durante a medida)
+    private static long allocatedBytes() {
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+}
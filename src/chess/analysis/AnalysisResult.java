@@ -0,0 +1,61 @@
+package chess.analysis;
+
+import chess.ChessMove;
+import chess.engine.SearchResult;
+
+import java.util.List;
+
+/**
+ * Resultado da análise de uma posição. Só os campos do tipo pedido são preenchidos:
+ * movimentos legais em {@link AnalysisType#LEGAL_MOVES}, xeque em {@link AnalysisType#CHECK_STATUS},
+ * xeque e xeque-mate em {@link AnalysisType#MATE_TEST} e a busca em
+ * {@link AnalysisType#SHALLOW_SEARCH}. Xeque e xeque-mate se referem ao lado que deve jogar.
+ */
+public class AnalysisResult {
+    private final AnalysisType type;
+    private final List<ChessMove> legalMoves;
+    private final boolean check;
+    private final boolean checkMate;
+    private final SearchResult search;
+
+    public AnalysisResult(AnalysisType type, List<ChessMove> legalMoves, boolean check, boolean checkMate,
+                          SearchResult search) {
+        this.type = type;
+        this.legalMoves = legalMoves;
+        this.check = check;
+        this.checkMate = checkMate;
+        this.search = search;
+    }
+
+    public AnalysisType getType() {
+        return type;
+    }
+
+    public List<ChessMove> getLegalMoves() {
+        return legalMoves;
+    }
+
+    public boolean getCheck() {
+        return check;
+    }
+
+    public boolean getCheckMate() {
+        return checkMate;
+    }
+
+    public SearchResult getSearch() {
+        return search;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case LEGAL_MOVES:
+                return legalMoves.size() + " movimentos " + legalMoves;
+            case SHALLOW_SEARCH:
+                return search.toString();
+            default:
+                return (checkMate ? "xeque-mate" : check ? "xeque" : "-");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package chess.analysis;
+
+// Tipos de análise aceitos pelo BatchAnalyzer
+public enum AnalysisType {
+    LEGAL_MOVES,
+    CHECK_STATUS,
+    MATE_TEST,
+    SHALLOW_SEARCH
+}
@@ -0,0 +1,131 @@
+package chess.analysis;
+
+import chess.ChessMatch;
+import chess.Color;
+import chess.MatchState;
+import chess.engine.Search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Analisa lotes de posições em paralelo em um {@link ForkJoinPool}.
+ * <p>
+ * O lote é dividido recursivamente até blocos de {@link #THRESHOLD} posições. Cada thread do pool
+ * mantém a sua própria {@link ChessMatch} e {@link Search}, reaproveitadas com
+ * {@link ChessMatch#loadState(MatchState)}, então nada é compartilhado entre as tarefas e a
+ * alocação por posição não cresce com o tamanho do lote. Os resultados são gravados em um vetor
+ * na posição de cada entrada, o que preserva a ordem sem etapa de junção.
+ */
+public class BatchAnalyzer {
+    private static final int THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+    private final int searchDepth;
+    private final ThreadLocal<Worker> workers;
+
+    /**
+     * @param pool        pool onde as análises são executadas
+     * @param searchDepth profundidade da busca de {@link AnalysisType#SHALLOW_SEARCH}
+     */
+    public BatchAnalyzer(ForkJoinPool pool, int searchDepth) {
+        this.pool = pool;
+        this.searchDepth = searchDepth;
+        this.workers = ThreadLocal.withInitial(() -> new Worker(searchDepth));
+    }
+
+    // Usa o pool comum da JVM
+    public BatchAnalyzer(int searchDepth) {
+        this(ForkJoinPool.commonPool(), searchDepth);
+    }
+
+    /**
+     * Analisa todas as posições e espera o fim do lote.
+     *
+     * @return um resultado por posição, na ordem de entrada
+     * @throws chess.ChessException se alguma posição for inválida
+     */
+    public List<AnalysisResult> analyze(Collection<MatchState> positions, AnalysisType type) {
+        MatchState[] input = positions.toArray(new MatchState[0]);
+        AnalysisResult[] results = new AnalysisResult[input.length];
+        pool.invoke(new AnalyzeTask(input, results, type, 0, input.length));
+        return Arrays.asList(results);
+    }
+
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    private class AnalyzeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MatchState[] input;
+        private final AnalysisResult[] results;
+        private final AnalysisType type;
+        private final int from;
+        private final int to;
+
+        AnalyzeTask(MatchState[] input, AnalysisResult[] results, AnalysisType type, int from, int to) {
+            this.input = input;
+            this.results = results;
+            this.type = type;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                Worker worker = workers.get();
+                for (int i = from; i < to; i++) {
+                    results[i] = worker.analyze(input[i], type);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AnalyzeTask(input, results, type, from, middle),
+                    new AnalyzeTask(input, results, type, middle, to));
+        }
+    }
+
+    // Estado reutilizável de uma thread do pool
+    private static class Worker {
+        private final ChessMatch match = new ChessMatch();
+        private final Search search;
+        private final int depth;
+
+        Worker(int searchDepth) {
+            search = new Search(searchDepth);
+            depth = searchDepth;
+        }
+
+        AnalysisResult analyze(MatchState state, AnalysisType type) {
+            if (type == AnalysisType.SHALLOW_SEARCH) {
+                return new AnalysisResult(type, null, false, false, search.search(state, depth));
+            }
+            match.loadState(state);
+            switch (type) {
+                case LEGAL_MOVES:
+                    return new AnalysisResult(type, match.legalMoves(), false, false, null);
+                case CHECK_STATUS:
+                    return new AnalysisResult(type, null, match.isInCheck(toMove(state)), false, null);
+                default:
+                    Color color = toMove(state);
+                    boolean check = match.isInCheck(color);
+                    return new AnalysisResult(type, null, check, check && match.isCheckMate(color), null);
+            }
+        }
+
+        // Lado que deve jogar: após o xeque-mate a partida não passa a vez, então é o adversário
+        private static Color toMove(MatchState state) {
+            Color current = state.getCurrentPlayer();
+            if (!state.getCheckMate()) {
+                return current;
+            }
+            return current == Color.WHITE ? Color.BLACK : Color.WHITE;
+        }
+    }
+}
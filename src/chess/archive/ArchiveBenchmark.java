@@ -0,0 +1,94 @@
+package chess.archive;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.MatchState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mede a construção do {@link GameArchive} e o tempo das consultas por posição.
+ * <p>
+ * Argumentos: número de partidas (padrão 20000), jogadas por partida (padrão 80) e número de
+ * consultas (padrão 10000). As partidas são aleatórias com semente fixa e são geradas antes de
+ * medir, já que escolher jogadas legais custa mais que arquivá-las.
+ */
+public class ArchiveBenchmark {
+    private static final int LIMIT = 100;
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : 80;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        long heapBefore = usedHeap();
+        Random random = new Random(7);
+        List<List<ChessMove>> corpus = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            corpus.add(playGame(random, plies));
+        }
+
+        long start = System.nanoTime();
+        GameArchive archive = new GameArchive((long) games * plies / 2);
+        for (List<ChessMove> moves : corpus) {
+            archive.addGame(moves);
+        }
+        long buildNanos = System.nanoTime() - start;
+        corpus = null;
+        long heap = usedHeap() - heapBefore;
+
+        System.out.printf("partidas: %d, jogadas: %d, posições distintas: %d, entradas: %d%n",
+                archive.getGameCount(), archive.getMoveCount(), archive.getIndex().getPositions(),
+                archive.getIndex().getEntries());
+        System.out.printf("construção: %.0f partidas/s%n", games * 1e9 / buildNanos);
+        System.out.printf("fora do heap: %.1f MB, heap: %.1f MB%n", archive.offHeapBytes() / 1e6, heap / 1e6);
+
+        //Consultas por posições tiradas de partidas do arquivo, que precisam encontrá-las
+        MatchState[] states = new MatchState[queries];
+        int[] sources = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(games);
+            int ply = random.nextInt(archive.plies(sources[i]) + 1);
+            states[i] = archive.replay(sources[i], ply).getState();
+        }
+        long[] nanos = new long[queries];
+        long found = 0;
+        for (int i = 0; i < queries; i++) {
+            long t = System.nanoTime();
+            int[] result = archive.gamesReaching(states[i], LIMIT);
+            nanos[i] = System.nanoTime() - t;
+            found += result.length;
+            if (result.length < LIMIT && Arrays.binarySearch(result, sources[i]) < 0) {
+                throw new IllegalStateException("Partida " + sources[i] + " não encontrada pela sua posição");
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("consultas: %d (até %d ids, média %.1f ids), p50 %.1f us, p99 %.1f us, máx %.1f us%n",
+                queries, LIMIT, (double) found / queries, nanos[queries / 2] / 1e3,
+                nanos[(int) (queries * 0.99)] / 1e3, nanos[queries - 1] / 1e3);
+    }
+
+    private static List<ChessMove> playGame(Random random, int plies) {
+        ChessMatch match = new ChessMatch();
+        List<ChessMove> moves = new ArrayList<>();
+        for (int i = 0; i < plies && !match.getCheckMate(); i++) {
+            List<ChessMove> legalMoves = match.legalMoves();
+            if (legalMoves.isEmpty()) {
+                break;
+            }
+            ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+            match.performChessMove(move.getSource(), move.getTarget());
+            moves.add(move);
+        }
+        return moves;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
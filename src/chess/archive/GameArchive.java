@@ -0,0 +1,206 @@
+package chess.archive;
+
+import chess.ChessException;
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPosition;
+import chess.Color;
+import chess.MatchState;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Arquivo compacto de partidas terminadas, com consulta por posição.
+ * <p>
+ * As jogadas ficam fora do heap como códigos de 16 bits (casa de origem nos bits 0-5, de destino
+ * nos bits 6-11, os 4 bits altos reservados) em segmentos de {@code ByteBuffer} diretos. No heap
+ * fica só o vetor de deslocamentos: a partida {@code g} ocupa as jogadas de
+ * {@code offsets[g]} a {@code offsets[g + 1] - 1}.
+ * <p>
+ * Cada partida é reproduzida em um {@link ChessMatch} ao ser adicionada, o que valida as jogadas,
+ * e o hash de Zobrist de cada posição alcançada (inclusive a inicial) é registrado no
+ * {@link PositionIndex}.
+ * <p>
+ * Não é thread-safe: adicione as partidas em uma única thread antes de consultar.
+ */
+public class GameArchive {
+    private static final int SEGMENT_SHIFT = 22;
+    private static final int SEGMENT_MOVES = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_MOVES - 1;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private long[] offsets = new long[1024];
+    private int games;
+    private final PositionIndex index;
+    private final long startHash;
+    private final byte[] startPieces;
+
+    // Rascunho da partida sendo adicionada
+    private long[] hashes = new long[256];
+    private short[] codes = new short[256];
+
+    /**
+     * @param expectedPositions número esperado de posições distintas no arquivo
+     */
+    public GameArchive(long expectedPositions) {
+        index = new PositionIndex(expectedPositions);
+        MatchState start = new ChessMatch().getState();
+        startHash = Zobrist.hash(start);
+        startPieces = new byte[MatchState.SQUARES];
+        for (int square = 0; square < MatchState.SQUARES; square++) {
+            char type = start.pieceType(square);
+            startPieces[square] = (byte) (type == 0 ? -1 : Zobrist.piece(type, start.pieceColor(square)));
+        }
+    }
+
+    /**
+     * Adiciona uma partida jogada a partir da posição inicial.
+     *
+     * @param moves jogadas da partida, em ordem
+     * @return id da partida no arquivo
+     * @throws ChessException se alguma jogada for ilegal; nesse caso nada é gravado
+     */
+    public int addGame(List<ChessMove> moves) {
+        int plies = moves.size();
+        if (hashes.length < plies + 1) {
+            hashes = new long[plies + 1];
+            codes = new short[plies];
+        }
+
+        //Reproduz a partida mantendo as peças por casa e o hash das peças de forma incremental
+        ChessMatch match = new ChessMatch();
+        byte[] pieces = startPieces.clone();
+        long hash = startHash;
+        hashes[0] = hash;
+        for (int i = 0; i < plies; i++) {
+            ChessMove move = moves.get(i);
+            match.performChessMove(move.getSource(), move.getTarget());
+            int from = square(move.getSource());
+            int to = square(move.getTarget());
+            int moving = pieces[from];
+            int captured = pieces[to];
+            hash ^= Zobrist.key(moving, from) ^ Zobrist.key(moving, to);
+            if (captured >= 0) {
+                hash ^= Zobrist.key(captured, to);
+            }
+            pieces[to] = (byte) moving;
+            pieces[from] = -1;
+            hashes[i + 1] = hash ^ sideKey(match);
+            codes[i] = (short) (from | to << 6);
+        }
+
+        //Grava as jogadas e indexa as posições
+        int gameId = games;
+        long start = offsets[gameId];
+        ensureMoveCapacity(start + plies);
+        for (int i = 0; i < plies; i++) {
+            long position = start + i;
+            segments.get((int) (position >>> SEGMENT_SHIFT)).putShort((int) (position & SEGMENT_MASK) << 1, codes[i]);
+        }
+        for (int i = 0; i <= plies; i++) {
+            index.add(hashes[i], gameId);
+        }
+        if (gameId + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[gameId + 1] = start + plies;
+        games++;
+        return gameId;
+    }
+
+    // O jogador da vez vem da partida: após o xeque-mate ele não é passado ao adversário
+    private static long sideKey(ChessMatch match) {
+        return match.getCurrentPlayer() == Color.BLACK ? Zobrist.blackToMove() : 0;
+    }
+
+    private void ensureMoveCapacity(long moves) {
+        while ((long) segments.size() << SEGMENT_SHIFT < moves) {
+            segments.add(ByteBuffer.allocateDirect(SEGMENT_MOVES * Short.BYTES));
+        }
+    }
+
+    public int getGameCount() {
+        return games;
+    }
+
+    public long getMoveCount() {
+        return offsets[games];
+    }
+
+    public int plies(int gameId) {
+        checkGame(gameId);
+        return (int) (offsets[gameId + 1] - offsets[gameId]);
+    }
+
+    // Jogadas de uma partida, decodificadas
+    public List<ChessMove> moves(int gameId) {
+        int plies = plies(gameId);
+        List<ChessMove> moves = new ArrayList<>(plies);
+        long start = offsets[gameId];
+        for (int i = 0; i < plies; i++) {
+            long position = start + i;
+            int code = segments.get((int) (position >>> SEGMENT_SHIFT)).getShort((int) (position & SEGMENT_MASK) << 1);
+            moves.add(new ChessMove(position(code & 63), position((code >>> 6) & 63)));
+        }
+        return moves;
+    }
+
+    /**
+     * Reproduz uma partida até a jogada informada.
+     *
+     * @param gameId id da partida
+     * @param ply    número de jogadas a aplicar a partir da posição inicial
+     */
+    public ChessMatch replay(int gameId, int ply) {
+        List<ChessMove> moves = moves(gameId);
+        if (ply < 0 || ply > moves.size()) {
+            throw new ChessException("Jogada " + ply + " fora da partida " + gameId);
+        }
+        ChessMatch match = new ChessMatch();
+        for (int i = 0; i < ply; i++) {
+            match.performChessMove(moves.get(i).getSource(), moves.get(i).getTarget());
+        }
+        return match;
+    }
+
+    /**
+     * Ids, em ordem crescente, das partidas que passaram pela posição.
+     *
+     * @param state posição procurada
+     * @param limit número máximo de ids (os das partidas mais recentes)
+     */
+    public int[] gamesReaching(MatchState state, int limit) {
+        return index.games(Zobrist.hash(state), limit);
+    }
+
+    public long countGamesReaching(MatchState state) {
+        return index.count(Zobrist.hash(state));
+    }
+
+    public PositionIndex getIndex() {
+        return index;
+    }
+
+    // Bytes fora do heap: segmentos de jogadas mais o índice
+    public long offHeapBytes() {
+        return (long) segments.size() * SEGMENT_MOVES * Short.BYTES + index.offHeapBytes();
+    }
+
+    private void checkGame(int gameId) {
+        if (gameId < 0 || gameId >= games) {
+            throw new ChessException("Partida inexistente: " + gameId);
+        }
+    }
+
+    // Índice da casa (0 a 63) na ordem da matriz do tabuleiro
+    private static int square(ChessPosition position) {
+        return (8 - position.getRow()) * 8 + (position.getColumn() - 'a');
+    }
+
+    private static ChessPosition position(int square) {
+        return new ChessPosition((char) ('a' + square % 8), 8 - square / 8);
+    }
+}
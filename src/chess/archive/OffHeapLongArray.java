@@ -0,0 +1,51 @@
+package chess.archive;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Vetor de longs fora do heap, dividido em segmentos de {@code ByteBuffer} diretos para
+ * passar do limite de 2 GB de um único buffer. Os segmentos nascem zerados.
+ * <p>
+ * O total alocado é limitado por {@code -XX:MaxDirectMemorySize}, e não pelo heap.
+ */
+final class OffHeapLongArray {
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_LONGS = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_LONGS - 1;
+
+    private ByteBuffer[] segments = new ByteBuffer[0];
+
+    OffHeapLongArray(long length) {
+        ensureCapacity(length);
+    }
+
+    // Garante espaço para os índices de 0 a length - 1
+    void ensureCapacity(long length) {
+        int needed = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        if (needed <= segments.length) {
+            return;
+        }
+        int old = segments.length;
+        segments = Arrays.copyOf(segments, Math.max(needed, old + (old >> 1)));
+        for (int i = old; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(SEGMENT_LONGS * Long.BYTES);
+        }
+    }
+
+    long get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) << 3);
+    }
+
+    void set(long index, long value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putLong((int) (index & SEGMENT_MASK) << 3, value);
+    }
+
+    long capacity() {
+        return (long) segments.length << SEGMENT_SHIFT;
+    }
+
+    long bytes() {
+        return capacity() * Long.BYTES;
+    }
+}
@@ -0,0 +1,136 @@
+package chess.archive;
+
+/**
+ * Índice de posição para partidas: tabela de endereçamento aberto (sondagem linear) do hash
+ * de Zobrist para o início de uma lista encadeada de ids de partida, com tudo guardado fora
+ * do heap em {@link OffHeapLongArray}.
+ * <p>
+ * Cada entrada da lista ocupa um long: id da partida nos 32 bits altos e, nos baixos, o índice
+ * da próxima entrada mais um (0 encerra a lista). As partidas são adicionadas em ordem
+ * crescente de id, então a cabeça da lista é sempre a partida mais recente; basta compará-la
+ * para não repetir a mesma partida quando uma posição se repete dentro dela.
+ * <p>
+ * Não é thread-safe: um único escritor, e leituras só depois de terminada a escrita.
+ */
+public class PositionIndex {
+    private static final double MAX_LOAD = 0.5;
+
+    private OffHeapLongArray keys;
+    // Índice da entrada mais recente mais um; 0 marca uma posição livre da tabela
+    private OffHeapLongArray heads;
+    private final OffHeapLongArray entries;
+    private long mask;
+    private long positions;
+    private long entryCount;
+
+    /**
+     * @param expectedPositions número esperado de posições distintas, para evitar
+     *                          redimensionamentos da tabela
+     */
+    public PositionIndex(long expectedPositions) {
+        long capacity = Long.highestOneBit(Math.max(16, (long) (expectedPositions / MAX_LOAD)) - 1) << 1;
+        allocateTable(capacity);
+        entries = new OffHeapLongArray(expectedPositions);
+    }
+
+    private void allocateTable(long capacity) {
+        keys = new OffHeapLongArray(capacity);
+        heads = new OffHeapLongArray(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Registra que a partida passou pela posição. Ignora repetições da posição na mesma partida.
+     *
+     * @param hash   hash de Zobrist da posição
+     * @param gameId id da partida, nunca menor que o da última partida adicionada
+     */
+    public void add(long hash, int gameId) {
+        long slot = find(hash);
+        long head = heads.get(slot);
+        if (head != 0 && (int) (entries.get(head - 1) >>> 32) == gameId) {
+            return;
+        }
+        entries.ensureCapacity(entryCount + 1);
+        entries.set(entryCount, ((long) gameId << 32) | head);
+        entryCount++;
+        heads.set(slot, entryCount);
+        if (head == 0) {
+            keys.set(slot, hash);
+            if (++positions > (mask + 1) * MAX_LOAD) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     * Ids das partidas que passaram pela posição, em ordem crescente.
+     *
+     * @param hash  hash de Zobrist da posição
+     * @param limit número máximo de ids retornados (os das partidas mais recentes)
+     */
+    public int[] games(long hash, int limit) {
+        long entry = heads.get(find(hash));
+        int count = 0;
+        for (long e = entry; e != 0 && count < limit; e = entries.get(e - 1) & 0xFFFFFFFFL) {
+            count++;
+        }
+        int[] games = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            long value = entries.get(entry - 1);
+            games[i] = (int) (value >>> 32);
+            entry = value & 0xFFFFFFFFL;
+        }
+        return games;
+    }
+
+    // Quantidade de partidas que passaram pela posição
+    public long count(long hash) {
+        long count = 0;
+        for (long e = heads.get(find(hash)); e != 0; e = entries.get(e - 1) & 0xFFFFFFFFL) {
+            count++;
+        }
+        return count;
+    }
+
+    // Posição da tabela com o hash, ou a posição livre onde ele seria inserido
+    private long find(long hash) {
+        long slot = spread(hash) & mask;
+        while (heads.get(slot) != 0 && keys.get(slot) != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long spread(long hash) {
+        return hash ^ (hash >>> 32);
+    }
+
+    private void grow() {
+        OffHeapLongArray oldKeys = keys;
+        OffHeapLongArray oldHeads = heads;
+        long oldCapacity = mask + 1;
+        allocateTable(oldCapacity << 1);
+        for (long i = 0; i < oldCapacity; i++) {
+            long head = oldHeads.get(i);
+            if (head != 0) {
+                long slot = find(oldKeys.get(i));
+                keys.set(slot, oldKeys.get(i));
+                heads.set(slot, head);
+            }
+        }
+    }
+
+    public long getPositions() {
+        return positions;
+    }
+
+    public long getEntries() {
+        return entryCount;
+    }
+
+    // Bytes ocupados fora do heap
+    public long offHeapBytes() {
+        return keys.bytes() + heads.bytes() + entries.bytes();
+    }
+}
@@ -0,0 +1,72 @@
+package chess.archive;
+
+import chess.Color;
+import chess.MatchState;
+
+/**
+ * Hash de Zobrist das posições: um valor aleatório fixo para cada par (peça, casa), combinados
+ * com XOR, mais um valor para o lado que joga. Como cada jogada altera poucas casas, o hash pode
+ * ser atualizado de forma incremental ao reproduzir uma partida.
+ * <p>
+ * O hash considera só a disposição das peças e o jogador da vez; não há roque nem en passant
+ * nesta implementação de xadrez.
+ */
+public final class Zobrist {
+    // Tipos de peça na mesma ordem de MatchState; as pretas vêm depois das brancas
+    private static final String PIECE_TYPES = "PNBRQK";
+    public static final int PIECES = 12;
+
+    private static final long[] KEYS = new long[PIECES * MatchState.SQUARES];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        // Sequência SplitMix64 com semente fixa, para que os hashes sejam estáveis entre execuções
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            KEYS[i] = mix(state);
+        }
+        state += 0x9E3779B97F4A7C15L;
+        BLACK_TO_MOVE = mix(state);
+    }
+
+    private Zobrist() {
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Índice de uma peça (0 a 11) para {@link #key(int, int)}.
+     *
+     * @param type  letra do tipo da peça (ex: 'K')
+     * @param color cor da peça
+     */
+    public static int piece(char type, Color color) {
+        int index = PIECE_TYPES.indexOf(type);
+        return color == Color.BLACK ? index + 6 : index;
+    }
+
+    public static long key(int piece, int square) {
+        return KEYS[piece * MatchState.SQUARES + square];
+    }
+
+    public static long blackToMove() {
+        return BLACK_TO_MOVE;
+    }
+
+    // Hash completo de um estado salvo
+    public static long hash(MatchState state) {
+        long hash = state.getCurrentPlayer() == Color.BLACK ? BLACK_TO_MOVE : 0;
+        for (int square = 0; square < MatchState.SQUARES; square++) {
+            char type = state.pieceType(square);
+            if (type != 0) {
+                hash ^= key(piece(type, state.pieceColor(square)), square);
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,139 @@
+package chess.concurrent;
+
+import chess.ChessException;
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Envolve um {@link ChessMatch} com semântica de escritor único e vários leitores.
+ * <p>
+ * Toda operação que toca a partida (jogadas e também consultas como {@code legalMoves},
+ * que fazem jogadas de teste) entra em uma caixa de mensagens e é executada em ordem,
+ * uma de cada vez, no executor informado. Várias partidas podem compartilhar o mesmo
+ * executor: cada uma ocupa no máximo uma thread por vez.
+ * <p>
+ * Após cada jogada aceita, um {@link MatchSnapshot} é publicado em uma referência volatile.
+ * Leitores (espectadores, análise) usam {@link #snapshot()} sem bloquear e sem atrasar o escritor,
+ * e podem acompanhar as jogadas seguintes pelas deltas de {@link #deltas()}.
+ */
+public class ConcurrentChessMatch {
+    // Máximo de tarefas executadas antes de devolver a thread ao executor
+    private static final int BATCH = 64;
+    // Deltas mantidas para espectadores atrasados
+    private static final int DELTA_CAPACITY = 256;
+
+    private final ChessMatch match;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final DeltaBroadcaster deltas;
+    private volatile MatchSnapshot snapshot;
+
+    public ConcurrentChessMatch(ChessMatch match, Executor executor) {
+        this.match = match;
+        this.executor = executor;
+        this.deltas = new DeltaBroadcaster(DELTA_CAPACITY, match.getMoveCount());
+        match.addMoveListener(deltas);
+        this.snapshot = MatchSnapshot.of(match, null, null);
+    }
+
+    // Último estado publicado; nunca bloqueia
+    public MatchSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Deltas das jogadas aceitas. Um espectador normalmente lê {@link #snapshot()} uma vez,
+     * assina a partir de {@link MatchSnapshot#getSequence()} e depois aplica só as deltas.
+     */
+    public DeltaBroadcaster deltas() {
+        return deltas;
+    }
+
+    /**
+     * Enfileira uma jogada.
+     *
+     * @return futuro com o snapshot publicado após a jogada, ou completado com
+     * {@link ChessException} se a jogada for inválida
+     */
+    public CompletableFuture<MatchSnapshot> submitMove(ChessMove move) {
+        return submit(m -> {
+            if (m.getCheckMate()) {
+                throw new ChessException("Partida encerrada");
+            }
+            ChessPiece captured = m.performChessMove(move.getSource(), move.getTarget());
+            MatchSnapshot s = MatchSnapshot.of(m, move, captured);
+            snapshot = s;
+            return s;
+        });
+    }
+
+    /**
+     * Executa a jogada e espera o resultado.
+     *
+     * @throws ChessException se a jogada for inválida
+     */
+    public MatchSnapshot performChessMove(ChessMove move) {
+        return await(submitMove(move));
+    }
+
+    /**
+     * Executa uma consulta na thread do escritor, com a partida em estado consistente.
+     * A função não deve alterar a partida nem guardar referência a ela.
+     */
+    public <T> CompletableFuture<T> query(Function<ChessMatch, T> function) {
+        return submit(function);
+    }
+
+    // Aguarda o futuro, repassando ChessException sem o invólucro de CompletionException
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Function<ChessMatch, T> function) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        mailbox.offer(() -> {
+            try {
+                future.complete(function.apply(match));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        schedule();
+        return future;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int n = 0;
+        Runnable task;
+        while (n++ < BATCH && (task = mailbox.poll()) != null) {
+            task.run();
+        }
+        scheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
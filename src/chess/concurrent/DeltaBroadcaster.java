@@ -0,0 +1,77 @@
+package chess.concurrent;
+
+import chess.MoveDelta;
+import chess.MoveListener;
+
+/**
+ * Distribui as {@link MoveDelta} de uma partida para vários assinantes por meio de um buffer circular.
+ * <p>
+ * A thread que joga escreve cada delta uma única vez, independente do número de assinantes;
+ * cada {@link DeltaSubscription} lê no seu próprio ritmo a partir de um número de sequência.
+ * Um assinante que fica mais de {@code capacity} jogadas atrasado perde as deltas
+ * sobrescritas e precisa se ressincronizar a partir de um snapshot completo.
+ */
+public class DeltaBroadcaster implements MoveListener {
+    private final MoveDelta[] ring;
+    private final int mask;
+    // Sequência da última delta publicada; escrita apenas pela thread que joga
+    private volatile long published;
+
+    /**
+     * @param capacity   número de deltas mantidas (arredondado para potência de 2)
+     * @param initialSequence sequência atual da partida (normalmente {@code getMoveCount()})
+     */
+    public DeltaBroadcaster(int capacity, long initialSequence) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A capacidade deve ser maior que zero");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.ring = new MoveDelta[Math.max(size, 1)];
+        this.mask = ring.length - 1;
+        this.published = initialSequence;
+    }
+
+    @Override
+    public void onMove(MoveDelta delta) {
+        ring[(int) (delta.getSequence() & mask)] = delta;
+        published = delta.getSequence();
+    }
+
+    public long getPublishedSequence() {
+        return published;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    // Cria uma assinatura que recebe as deltas publicadas a partir de agora
+    public DeltaSubscription subscribe() {
+        return new DeltaSubscription(this, published + 1);
+    }
+
+    /**
+     * Cria uma assinatura a partir de uma sequência conhecida, ex: a de um snapshot já recebido.
+     *
+     * @param lastSeenSequence última sequência que o assinante já aplicou
+     */
+    public DeltaSubscription subscribe(long lastSeenSequence) {
+        return new DeltaSubscription(this, lastSeenSequence + 1);
+    }
+
+    /**
+     * Lê a delta de uma sequência, ou null se ela ainda não foi publicada
+     * ou já foi sobrescrita.
+     */
+    MoveDelta read(long sequence) {
+        if (sequence > published) {
+            return null;
+        }
+        MoveDelta delta = ring[(int) (sequence & mask)];
+        // A posição pode ter sido sobrescrita enquanto era lida
+        if (delta == null || delta.getSequence() != sequence) {
+            return null;
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,62 @@
+package chess.concurrent;
+
+import chess.MoveDelta;
+
+import java.util.List;
+
+/**
+ * Cursor de um assinante sobre um {@link DeltaBroadcaster}. Não é thread-safe:
+ * cada assinante deve usar sua própria assinatura.
+ */
+public class DeltaSubscription {
+    // Retorno de poll quando o assinante ficou para trás e precisa de um snapshot
+    public static final int LAPPED = -1;
+
+    private final DeltaBroadcaster broadcaster;
+    private long nextSequence;
+
+    DeltaSubscription(DeltaBroadcaster broadcaster, long nextSequence) {
+        this.broadcaster = broadcaster;
+        this.nextSequence = nextSequence;
+    }
+
+    /**
+     * Copia para {@code out} as deltas ainda não lidas, em ordem.
+     *
+     * @param out destino das deltas
+     * @param max quantidade máxima de deltas a ler
+     * @return quantidade de deltas lidas, ou {@link #LAPPED} se alguma delta pendente
+     * já foi sobrescrita; nesse caso use {@link #resync(long)} após obter um snapshot
+     */
+    public int poll(List<MoveDelta> out, int max) {
+        int n = 0;
+        long published = broadcaster.getPublishedSequence();
+        if (published - nextSequence >= broadcaster.getCapacity()) {
+            return LAPPED;
+        }
+        while (n < max && nextSequence <= published) {
+            MoveDelta delta = broadcaster.read(nextSequence);
+            if (delta == null) {
+                return n == 0 ? LAPPED : n;
+            }
+            out.add(delta);
+            nextSequence++;
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Reposiciona a assinatura logo após um snapshot completo.
+     *
+     * @param snapshotSequence sequência do snapshot aplicado pelo assinante
+     */
+    public void resync(long snapshotSequence) {
+        nextSequence = snapshotSequence + 1;
+    }
+
+    // Próxima sequência que será lida
+    public long getNextSequence() {
+        return nextSequence;
+    }
+}
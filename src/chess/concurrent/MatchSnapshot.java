@@ -0,0 +1,73 @@
+package chess.concurrent;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+import chess.Color;
+import chess.MatchState;
+
+/**
+ * Cópia imutável do estado de uma partida em um determinado momento.
+ * <p>
+ * Guarda só valores ({@link MatchState} e a letra da peça capturada), nunca as peças vivas
+ * da partida, então pode ser lida por qualquer thread sem sincronização enquanto o escritor
+ * continua jogando. O número de sequência conta as jogadas aceitas desde o início da partida.
+ */
+public class MatchSnapshot {
+    private final MatchState state;
+    private final ChessMove lastMove;
+    private final char lastCaptured;
+
+    private MatchSnapshot(MatchState state, ChessMove lastMove, char lastCaptured) {
+        this.state = state;
+        this.lastMove = lastMove;
+        this.lastCaptured = lastCaptured;
+    }
+
+    /**
+     * Captura o estado da partida. Deve ser chamado apenas pela thread que escreve nela.
+     */
+    static MatchSnapshot of(ChessMatch match, ChessMove lastMove, ChessPiece lastCaptured) {
+        return new MatchSnapshot(match.getState(), lastMove, MatchState.pieceCode(lastCaptured));
+    }
+
+    public long getSequence() {
+        return state.getMoveCount();
+    }
+
+    // Estado completo da partida, que pode ser usado para recriá-la
+    public MatchState getState() {
+        return state;
+    }
+
+    // Letra da peça (como na FEN) na linha e coluna da matriz (linha 0 = linha 8 do tabuleiro), ou 0 se vazia
+    public char pieceCode(int row, int column) {
+        return state.pieceCode(row * 8 + column);
+    }
+
+    public int getTurn() {
+        return state.getTurn();
+    }
+
+    public Color getCurrentPlayer() {
+        return state.getCurrentPlayer();
+    }
+
+    public boolean getCheck() {
+        return state.getCheck();
+    }
+
+    public boolean getCheckMate() {
+        return state.getCheckMate();
+    }
+
+    // Última jogada aceita, ou null no início da partida
+    public ChessMove getLastMove() {
+        return lastMove;
+    }
+
+    // Letra da peça capturada na última jogada (como na FEN), ou 0 se não houve captura
+    public char getLastCaptured() {
+        return lastCaptured;
+    }
+}
@@ -0,0 +1,180 @@
+package chess.engine;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+import chess.ChessPosition;
+import chess.Color;
+import chess.MatchState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca alfa-beta (negamax) de profundidade fixa com avaliação material.
+ * <p>
+ * Como {@link ChessMatch} não desfaz jogadas publicamente, cada nível da busca tem a sua
+ * própria partida, reaproveitada com {@link ChessMatch#loadState(MatchState)}: para testar uma
+ * jogada, a partida do nível seguinte recebe o estado do nível atual e aplica a jogada.
+ * Xeque-mate vale {@link #MATE} menos a distância em meias-jogadas; afogamento vale 0.
+ * <p>
+ * Uma instância não é thread-safe, exceto por {@link #stop()}, que pode ser chamado de
+ * qualquer thread para encerrar a busca em andamento.
+ */
+public class Search {
+    public static final int MATE = 100_000;
+    private static final int INFINITY = MATE + 1;
+
+    private final int maxDepth;
+    private final ChessMatch[] plies;
+    private final ChessMove[][] pv;
+    private final int[] pvLength;
+    private volatile boolean stopped;
+    private long nodes;
+
+    /**
+     * @param maxDepth maior profundidade (em meias-jogadas) aceita por {@link #search}
+     */
+    public Search(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Profundidade máxima inválida: " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        plies = new ChessMatch[maxDepth + 1];
+        for (int i = 0; i <= maxDepth; i++) {
+            plies[i] = new ChessMatch();
+        }
+        pv = new ChessMove[maxDepth + 1][maxDepth + 1];
+        pvLength = new int[maxDepth + 1];
+    }
+
+    /**
+     * Busca a melhor jogada da posição. Se {@link #stop()} for chamado durante a busca, retorna
+     * o melhor entre as jogadas da raiz já avaliadas por completo (nenhuma, se a parada vier
+     * antes de terminar a primeira), com {@link SearchResult#isCompleted()} igual a false.
+     * Depois de parada, a busca só volta a explorar posições após {@link #reset()}.
+     *
+     * @param root  posição a analisar
+     * @param depth profundidade em meias-jogadas, de 1 a maxDepth
+     */
+    public SearchResult search(MatchState root, int depth) {
+        if (depth < 1 || depth > maxDepth) {
+            throw new IllegalArgumentException("Profundidade fora de 1.." + maxDepth + ": " + depth);
+        }
+        nodes = 0;
+        // Partida já terminada: quem joga foi mateado
+        if (root.getCheckMate()) {
+            return new SearchResult(null, -MATE, depth, 0, List.of(), true);
+        }
+        plies[0].loadState(root);
+        int score = negamax(0, depth, -INFINITY, INFINITY);
+
+        List<ChessMove> line = new ArrayList<>(pvLength[0]);
+        for (int i = 0; i < pvLength[0]; i++) {
+            line.add(pv[0][i]);
+        }
+        ChessMove best = line.isEmpty() ? null : line.get(0);
+        if (best == null && stopped) {
+            // Nenhuma jogada da raiz foi avaliada: não há nota a informar
+            score = 0;
+        }
+        return new SearchResult(best, score, depth, nodes, line, !stopped);
+    }
+
+    // Pede o fim da busca em andamento
+    public void stop() {
+        stopped = true;
+    }
+
+    // Libera a busca depois de stop(), para a próxima chamada de search
+    public void reset() {
+        stopped = false;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        nodes++;
+        pvLength[ply] = 0;
+        ChessMatch match = plies[ply];
+        List<ChessMove> moves = match.legalMoves();
+        if (moves.isEmpty()) {
+            // Sem jogadas: mate se estiver em xeque (ex: posição FEN já mateada), senão afogamento
+            return match.isInCheck(match.getCurrentPlayer()) ? -(MATE - ply) : 0;
+        }
+        MatchState state = match.getState();
+        int material = material(state, match.getCurrentPlayer());
+        //Capturas primeiro, da peça mais valiosa para a menos valiosa, para cortar mais cedo
+        moves.sort((a, b) -> value(state, b.getTarget()) - value(state, a.getTarget()));
+
+        int best = -INFINITY;
+        for (ChessMove move : moves) {
+            if (stopped) {
+                break;
+            }
+            ChessMatch child = plies[ply + 1];
+            child.loadState(state);
+            ChessPiece captured = child.performChessMove(move.getSource(), move.getTarget());
+            int score;
+            if (child.getCheckMate()) {
+                nodes++;
+                pvLength[ply + 1] = 0;
+                score = MATE - (ply + 1);
+            } else if (depth == 1) {
+                nodes++;
+                pvLength[ply + 1] = 0;
+                score = material + value(captured);
+            } else {
+                score = -negamax(ply + 1, depth - 1, -beta, -alpha);
+                //Parada no meio da jogada: a nota do filho é parcial e é descartada
+                if (stopped) {
+                    break;
+                }
+            }
+            if (score > best) {
+                best = score;
+                pv[ply][0] = move;
+                System.arraycopy(pv[ply + 1], 0, pv[ply], 1, pvLength[ply + 1]);
+                pvLength[ply] = pvLength[ply + 1] + 1;
+            }
+            if (best > alpha) {
+                alpha = best;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    // Saldo material do ponto de vista da cor informada
+    static int material(MatchState state, Color color) {
+        int sum = 0;
+        for (int square = 0; square < MatchState.SQUARES; square++) {
+            int value = value(state.pieceType(square));
+            sum += state.pieceColor(square) == color ? value : -value;
+        }
+        return sum;
+    }
+
+    private static int value(MatchState state, ChessPosition position) {
+        return value(state.pieceType((8 - position.getRow()) * 8 + (position.getColumn() - 'a')));
+    }
+
+    private static int value(ChessPiece piece) {
+        return piece == null ? 0 : value(piece.toString().charAt(0));
+    }
+
+    // Valor material clássico em centésimos de peão (0 para casa vazia ou rei)
+    static int value(char type) {
+        return switch (type) {
+            case 'P' -> 100;
+            case 'N', 'B' -> 300;
+            case 'R' -> 500;
+            case 'Q' -> 900;
+            default -> 0;
+        };
+    }
+}
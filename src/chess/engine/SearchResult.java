@@ -0,0 +1,69 @@
+package chess.engine;
+
+import chess.ChessMove;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca: melhor jogada, avaliação em centésimos de peão do ponto de vista de
+ * quem joga e a variante principal.
+ */
+public class SearchResult {
+    private final ChessMove bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final List<ChessMove> principalVariation;
+    private final boolean completed;
+
+    public SearchResult(ChessMove bestMove, int score, int depth, long nodes,
+                        List<ChessMove> principalVariation, boolean completed) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.principalVariation = principalVariation;
+        this.completed = completed;
+    }
+
+    // Melhor jogada, ou null se não houver jogada legal
+    public ChessMove getBestMove() {
+        return bestMove;
+    }
+
+    // Resposta esperada do adversário (segunda jogada da variante principal), ou null
+    public ChessMove getPonderMove() {
+        return principalVariation.size() > 1 ? principalVariation.get(1) : null;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    // Verifica se a avaliação é de um mate forçado (para qualquer um dos lados)
+    public boolean isMateScore() {
+        return Math.abs(score) > Search.MATE - 1000;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public List<ChessMove> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    // false se a busca foi interrompida antes de terminar a profundidade
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + depth + " score " + score + " nodes " + nodes + " pv " + principalVariation;
+    }
+}
@@ -0,0 +1,38 @@
+package chess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Uma chamada a makeMove ou undoMove, inclusive as jogadas de teste.
+ * Desligado por padrão por ser muito frequente; ligue com {@code chess.BoardChange#enabled=true}.
+ */
+@Name("chess.BoardChange")
+@Label("Chess Board Change")
+@Category({"Chess", "Board"})
+@Enabled(false)
+@StackTrace(false)
+public class BoardChangeEvent extends Event {
+    @Label("Undo")
+    private boolean undo;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Target")
+    private String target;
+
+    @Label("Capture")
+    private boolean capture;
+
+    public void set(boolean undo, String source, String target, boolean capture) {
+        this.undo = undo;
+        this.source = source;
+        this.target = target;
+        this.capture = capture;
+    }
+}
@@ -0,0 +1,35 @@
+package chess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+// Um teste de xeque-mate (testcheckMate), com o número de jogadas de teste simuladas
+@Name("chess.CheckMateTest")
+@Label("Chess Checkmate Test")
+@Category({"Chess", "Rules"})
+@Threshold("20 us")
+@StackTrace(false)
+public class CheckMateTestEvent extends Event {
+    @Label("Turn")
+    private int turn;
+
+    @Label("Color")
+    private String color;
+
+    @Label("Trial Moves")
+    private int trialMoves;
+
+    @Label("Checkmate")
+    private boolean checkMate;
+
+    public void set(int turn, String color, int trialMoves, boolean checkMate) {
+        this.turn = turn;
+        this.color = color;
+        this.trialMoves = trialMoves;
+        this.checkMate = checkMate;
+    }
+}
@@ -0,0 +1,31 @@
+package chess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+// Um teste de xeque (testCheck); só os mais lentos que o limite são gravados por padrão
+@Name("chess.CheckTest")
+@Label("Chess Check Test")
+@Category({"Chess", "Rules"})
+@Threshold("20 us")
+@StackTrace(false)
+public class CheckTestEvent extends Event {
+    @Label("Turn")
+    private int turn;
+
+    @Label("Color")
+    private String color;
+
+    @Label("In Check")
+    private boolean inCheck;
+
+    public void set(int turn, String color, boolean inCheck) {
+        this.turn = turn;
+        this.color = color;
+        this.inCheck = inCheck;
+    }
+}
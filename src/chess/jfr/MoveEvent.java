@@ -0,0 +1,41 @@
+package chess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Uma chamada a ChessMatch.performChessMove, aceita ou rejeitada
+@Name("chess.Move")
+@Label("Chess Move")
+@Category({"Chess", "Match"})
+@Description("Execução de uma jogada, incluindo validação e testes de xeque e xeque-mate")
+@StackTrace(false)
+public class MoveEvent extends Event {
+    @Label("Turn")
+    private int turn;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Target")
+    private String target;
+
+    @Label("Trial Moves")
+    @Description("Jogadas de teste feitas na verificação de xeque-mate")
+    private int trialMoves;
+
+    @Label("Outcome")
+    @Description("OK, CHECK, CHECKMATE ou REJECTED")
+    private String outcome;
+
+    public void set(int turn, String source, String target, int trialMoves, String outcome) {
+        this.turn = turn;
+        this.source = source;
+        this.target = target;
+        this.trialMoves = trialMoves;
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,336 @@
+package chess.journal;
+
+import chess.ChessMatch;
+import chess.ChessPosition;
+import chess.MatchState;
+import chess.MoveDelta;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Journal binário, somente de acréscimo, das jogadas aceitas de várias partidas.
+ * <p>
+ * O diretório do journal contém dois arquivos de registros de tamanho fixo:
+ * <ul>
+ *     <li>{@code moves.log}: uma jogada por registro (id da partida, sequência, origem e destino);</li>
+ *     <li>{@code snapshots.log}: estados completos ({@link MatchState}) gravados periodicamente,
+ *     junto com o tamanho de {@code moves.log} no momento do snapshot.</li>
+ * </ul>
+ * Toda partida tem um snapshot antes da sua primeira jogada em {@code moves.log}: o de
+ * {@link #attach}, ou o da posição inicial, gravado automaticamente pela primeira chamada de
+ * {@link #append} de uma partida que ainda não tem snapshot. Assim a recuperação pode começar a
+ * leitura no snapshot mais antigo.
+ * <p>
+ * Os registros são gravados por uma única thread em lotes: tudo que chegou enquanto o lote
+ * anterior era gravado vai no mesmo write e no mesmo fsync (group commit). Os futuros devolvidos
+ * por {@link #append} só completam depois que o lote foi sincronizado com o disco.
+ * <p>
+ * A leitura (recuperação e busca de jogadas) fica em {@link JournalReader}.
+ */
+public class GameJournal implements AutoCloseable {
+    static final String MOVES_FILE = "moves.log";
+    static final String SNAPSHOTS_FILE = "snapshots.log";
+    // id(8) + sequência(4) + origem(1) + destino(1) + reservado(2) + crc(4)
+    static final int MOVE_RECORD_BYTES = 20;
+    // id(8) + posição em moves.log(8) + estado + crc(4)
+    static final int SNAPSHOT_RECORD_BYTES = 16 + MatchState.BYTES + 4;
+
+    private static final int MAX_BATCH = 4096;
+    // Estado antes da primeira jogada, usado como snapshot das partidas registradas só com append
+    private static final MatchState INITIAL_STATE = new ChessMatch().getState();
+
+    private final FileChannel moves;
+    private final FileChannel snapshots;
+    private final boolean fsync;
+    private final int snapshotInterval;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final long openedAt = System.nanoTime();
+    // Partidas que já têm snapshot no journal (inclusive as gravadas antes de abri-lo)
+    private final Set<Long> snapshotted = ConcurrentHashMap.newKeySet();
+    // Torna atômicos a verificação de running e a inclusão na fila, em relação a close()
+    private final Object lock = new Object();
+    private volatile boolean running = true;
+    private volatile IOException failure;
+
+    private long movesPosition;
+    private volatile long movesWritten;
+    private volatile long snapshotsWritten;
+    private volatile long batches;
+    private volatile long syncs;
+    private volatile long bytesWritten;
+    private volatile long syncNanos;
+
+    /**
+     * Abre (ou cria) o journal no diretório informado.
+     *
+     * @param directory        diretório dos arquivos do journal
+     * @param fsync            se true, cada lote é sincronizado com o disco antes de ser confirmado
+     * @param snapshotInterval número de jogadas entre snapshots de uma partida anexada
+     */
+    public GameJournal(Path directory, boolean fsync, int snapshotInterval) throws IOException {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("snapshotInterval deve ser maior que zero");
+        }
+        Files.createDirectories(directory);
+        this.moves = open(directory.resolve(MOVES_FILE), MOVE_RECORD_BYTES);
+        this.snapshots = open(directory.resolve(SNAPSHOTS_FILE), SNAPSHOT_RECORD_BYTES);
+        this.movesPosition = moves.position();
+        this.snapshotted.addAll(JournalReader.snapshotMatchIds(directory));
+        this.fsync = fsync;
+        this.snapshotInterval = snapshotInterval;
+        this.writer = new Thread(this::writeLoop, "chess-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Abre o arquivo para acréscimo, descartando um registro final gravado pela metade
+    private static FileChannel open(Path file, int recordBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long size = channel.size() - channel.size() % recordBytes;
+        channel.truncate(size);
+        channel.position(size);
+        return channel;
+    }
+
+    /**
+     * Passa a registrar as jogadas da partida: grava um snapshot do estado atual e,
+     * depois, cada jogada aceita e um novo snapshot a cada {@code snapshotInterval} jogadas.
+     *
+     * @param matchId id da partida no journal
+     * @param match   partida a registrar
+     */
+    public void attach(long matchId, ChessMatch match) {
+        appendSnapshot(matchId, match.getState());
+        match.addMoveListener(delta -> {
+            append(matchId, delta);
+            if (delta.getSequence() % snapshotInterval == 0) {
+                appendSnapshot(matchId, match.getState());
+            }
+        });
+    }
+
+    /**
+     * Acrescenta uma jogada ao journal. Se a partida ainda não tiver snapshot, a jogada precisa
+     * ser a primeira (sequência 1), e antes dela é gravado um snapshot da posição inicial.
+     *
+     * @return futuro completado quando a jogada estiver gravada (e sincronizada, se fsync estiver
+     * ativo), ou com {@link IllegalStateException} se a partida não tiver snapshot e a jogada não
+     * for a primeira
+     */
+    public CompletableFuture<Void> append(long matchId, MoveDelta delta) {
+        if (!snapshotted.contains(matchId)) {
+            if (delta.getSequence() != 1) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Partida " + matchId
+                        + " sem snapshot no journal: a primeira jogada registrada deve ser a 1 (ou use attach)"));
+            }
+            appendSnapshot(matchId, INITIAL_STATE);
+        }
+        return enqueue(new Entry(matchId, (int) delta.getSequence(), square(delta.getSource()),
+                square(delta.getTarget()), null));
+    }
+
+    // Acrescenta um snapshot do estado de uma partida
+    public CompletableFuture<Void> appendSnapshot(long matchId, MatchState state) {
+        snapshotted.add(matchId);
+        return enqueue(new Entry(matchId, (int) state.getMoveCount(), 0, 0, state));
+    }
+
+    // Espera até que tudo o que foi acrescentado até agora esteja gravado
+    public void sync() {
+        enqueue(Entry.barrier()).join();
+    }
+
+    public JournalStats getStats() {
+        return new JournalStats(movesWritten, snapshotsWritten, batches, syncs, bytesWritten, syncNanos,
+                System.nanoTime() - openedAt);
+    }
+
+    /**
+     * Grava o que já estava na fila e fecha os arquivos. Acréscimos feitos depois disso
+     * falham com {@link IOException}.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchronized (lock) {
+                running = false;
+            }
+            //O escritor só sai do laço com a fila vazia, e nada mais entra nela depois de running = false
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            //Se o escritor foi interrompido antes de esvaziar a fila, as entradas restantes falham
+            Entry e;
+            while ((e = queue.poll()) != null) {
+                e.done.completeExceptionally(new IOException("Journal fechado"));
+            }
+        } finally {
+            try {
+                moves.close();
+            } finally {
+                snapshots.close();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Índice da casa (0 a 63) na ordem da matriz do tabuleiro
+    static int square(ChessPosition position) {
+        return (8 - position.getRow()) * 8 + (position.getColumn() - 'a');
+    }
+
+    static ChessPosition position(int square) {
+        return new ChessPosition((char) ('a' + square % 8), 8 - square / 8);
+    }
+
+    private CompletableFuture<Void> enqueue(Entry e) {
+        synchronized (lock) {
+            if (!running) {
+                e.done.completeExceptionally(new IOException("Journal fechado"));
+            } else if (failure != null) {
+                e.done.completeExceptionally(failure);
+            } else {
+                queue.add(e);
+            }
+        }
+        return e.done;
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        ByteBuffer moveBuffer = ByteBuffer.allocate(MAX_BATCH * MOVE_RECORD_BYTES);
+        ByteBuffer snapshotBuffer = ByteBuffer.allocate(MAX_BATCH * SNAPSHOT_RECORD_BYTES);
+        CRC32 crc = new CRC32();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch, moveBuffer, snapshotBuffer, crc);
+                for (Entry e : batch) {
+                    e.done.complete(null);
+                }
+            } catch (IOException e) {
+                failure = e;
+                for (Entry entry : batch) {
+                    entry.done.completeExceptionally(e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Entry> batch, ByteBuffer moveBuffer, ByteBuffer snapshotBuffer, CRC32 crc)
+            throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        moveBuffer.clear();
+        snapshotBuffer.clear();
+        int moveCount = 0;
+        int snapshotCount = 0;
+        for (Entry e : batch) {
+            if (e.barrier) {
+                continue;
+            }
+            if (e.state == null) {
+                int start = moveBuffer.position();
+                moveBuffer.putLong(e.matchId).putInt(e.sequence).put((byte) e.from).put((byte) e.to).putShort((short) 0);
+                moveBuffer.putInt(checksum(crc, moveBuffer, start));
+                moveCount++;
+            } else {
+                // Os snapshots apontam para o fim de moves.log logo após a jogada que os originou
+                int start = snapshotBuffer.position();
+                snapshotBuffer.putLong(e.matchId).putLong(movesPosition + moveBuffer.position());
+                e.state.writeTo(snapshotBuffer);
+                snapshotBuffer.putInt(checksum(crc, snapshotBuffer, start));
+                snapshotCount++;
+            }
+        }
+        moveBuffer.flip();
+        snapshotBuffer.flip();
+        int bytes = moveBuffer.remaining() + snapshotBuffer.remaining();
+        while (moveBuffer.hasRemaining()) {
+            moves.write(moveBuffer);
+        }
+        while (snapshotBuffer.hasRemaining()) {
+            snapshots.write(snapshotBuffer);
+        }
+        if (fsync && bytes > 0) {
+            long start = System.nanoTime();
+            if (moveCount > 0) {
+                moves.force(false);
+            }
+            if (snapshotCount > 0) {
+                snapshots.force(false);
+            }
+            syncNanos += System.nanoTime() - start;
+            syncs++;
+        }
+        movesPosition += (long) moveCount * MOVE_RECORD_BYTES;
+        movesWritten += moveCount;
+        snapshotsWritten += snapshotCount;
+        bytesWritten += bytes;
+        batches++;
+    }
+
+    // CRC32 dos bytes do registro escritos a partir de start
+    static int checksum(CRC32 crc, ByteBuffer buffer, int start) {
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + start, buffer.position() - start);
+        return (int) crc.getValue();
+    }
+
+    private static class Entry {
+        final long matchId;
+        final int sequence;
+        final int from;
+        final int to;
+        final MatchState state;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        // Entrada sem dados, usada apenas para esperar a gravação das anteriores
+        boolean barrier;
+
+        Entry(long matchId, int sequence, int from, int to, MatchState state) {
+            this.matchId = matchId;
+            this.sequence = sequence;
+            this.from = from;
+            this.to = to;
+            this.state = state;
+        }
+
+        static Entry barrier() {
+            Entry e = new Entry(0, 0, 0, 0, null);
+            e.barrier = true;
+            return e;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package chess.journal;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPosition;
+import chess.Color;
+import chess.MoveDelta;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mede a vazão do journal, o tempo de recuperação e o tempo de busca de uma jogada.
+ * <p>
+ * Argumentos: diretório (padrão: temporário), número de partidas, jogadas por partida,
+ * intervalo entre snapshots e fsync (true/false).
+ */
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        Path directory = args.length > 0 ? Paths.get(args[0]) : Files.createTempDirectory("chess-journal");
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int movesPerGame = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int snapshotInterval = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+        boolean fsync = args.length <= 4 || Boolean.parseBoolean(args[4]);
+
+        // As partidas avançam intercaladas, como em um servidor com várias partidas ao vivo
+        Random random = new Random(42);
+        List<ChessMatch> matches = new ArrayList<>();
+        long expected = 0;
+        try (GameJournal journal = new GameJournal(directory, fsync, snapshotInterval)) {
+            for (int i = 0; i < games; i++) {
+                ChessMatch match = new ChessMatch();
+                journal.attach(i, match);
+                matches.add(match);
+            }
+            for (int ply = 0; ply < movesPerGame; ply++) {
+                for (ChessMatch match : matches) {
+                    List<ChessMove> legalMoves = match.legalMoves();
+                    if (!legalMoves.isEmpty()) {
+                        ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+                        match.performChessMove(move.getSource(), move.getTarget());
+                        expected++;
+                    }
+                }
+            }
+            journal.sync();
+            System.out.println("Journal em " + directory + ": " + journal.getStats());
+        }
+
+        RecoveryResult result = JournalReader.recover(directory);
+        System.out.println("Recuperação: " + result);
+        for (int i = 0; i < games; i++) {
+            ChessMatch recovered = result.getMatches().get((long) i);
+            if (recovered == null || !recovered.getState().equals(matches.get(i).getState())) {
+                throw new IllegalStateException("Partida " + i + " não foi recuperada corretamente");
+            }
+        }
+
+        long target = matches.get(games / 2).getMoveCount() / 2 + 1;
+        long start = System.nanoTime();
+        ChessMatch sought = JournalReader.seek(directory, games / 2, target);
+        System.out.printf("Busca da jogada %d da partida %d: %.2fms (%d jogadas no total)%n",
+                sought.getMoveCount(), games / 2, (System.nanoTime() - start) / 1e6, expected);
+
+        rawThroughput(directory.resolve("raw"), fsync);
+    }
+
+    // Vazão só do journal: várias threads acrescentando jogadas já prontas, sem gerar lances
+    private static void rawThroughput(Path directory, boolean fsync) throws IOException {
+        int threads = 4;
+        int perThread = 50_000;
+        MoveDelta delta = new MoveDelta(1, new ChessPosition('e', 2), new ChessPosition('e', 4), (char) 0,
+                false, false, 2, Color.BLACK);
+        try (GameJournal journal = new GameJournal(directory, fsync, Integer.MAX_VALUE)) {
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long matchId = t;
+                Thread producer = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(matchId, delta);
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            for (Thread producer : producers) {
+                try {
+                    producer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            journal.sync();
+            System.out.println("Vazão bruta (" + threads + " threads): " + journal.getStats());
+        }
+    }
+}
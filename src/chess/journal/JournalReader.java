@@ -0,0 +1,237 @@
+package chess.journal;
+
+import chess.ChessMatch;
+import chess.ChessPosition;
+import chess.MatchState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Reconstrói partidas a partir de um diretório gravado por {@link GameJournal}.
+ * <p>
+ * A reconstrução parte sempre do snapshot mais recente de cada partida e só refaz as jogadas
+ * posteriores a ele, lendo {@code moves.log} a partir do mais antigo desses snapshots.
+ * O {@link GameJournal} grava um snapshot antes da primeira jogada de toda partida, então
+ * nenhuma jogada fica antes do ponto de partida da leitura.
+ * Registros com checksum inválido encerram a leitura (gravação interrompida no meio).
+ */
+public class JournalReader {
+    // Registros lidos do disco por chamada de read
+    private static final int CHUNK_RECORDS = 8192;
+
+    private JournalReader() {
+    }
+
+    /**
+     * Reconstrói todas as partidas do journal no último estado gravado.
+     *
+     * @param directory diretório do journal
+     * @return as partidas reconstruídas e as estatísticas da recuperação
+     */
+    public static RecoveryResult recover(Path directory) throws IOException {
+        long start = System.nanoTime();
+        Map<Long, MatchState> states = new HashMap<>();
+        Map<Long, Long> offsets = new HashMap<>();
+        long snapshotsRead = 0;
+
+        try (FileChannel channel = open(directory.resolve(GameJournal.SNAPSHOTS_FILE))) {
+            RecordCursor cursor = new RecordCursor(channel, 0, GameJournal.SNAPSHOT_RECORD_BYTES);
+            ByteBuffer record;
+            while ((record = cursor.next()) != null) {
+                long matchId = record.getLong();
+                long offset = record.getLong();
+                MatchState state = MatchState.readFrom(record);
+                MatchState previous = states.get(matchId);
+                if (previous == null || state.getMoveCount() >= previous.getMoveCount()) {
+                    states.put(matchId, state);
+                    offsets.put(matchId, offset);
+                }
+                snapshotsRead++;
+            }
+        }
+
+        Map<Long, ChessMatch> matches = new HashMap<>();
+        long firstOffset = Long.MAX_VALUE;
+        for (Map.Entry<Long, MatchState> e : states.entrySet()) {
+            matches.put(e.getKey(), new ChessMatch(e.getValue()));
+            firstOffset = Math.min(firstOffset, offsets.get(e.getKey()));
+        }
+        if (matches.isEmpty()) {
+            firstOffset = 0;
+        }
+
+        //Entre o snapshot mais antigo e o fim ainda há registros de outras partidas anteriores
+        //aos seus próprios snapshots: esses são só pulados
+        long scanned = 0;
+        long replayed = 0;
+        long bytesScanned = 0;
+        try (FileChannel channel = open(directory.resolve(GameJournal.MOVES_FILE))) {
+            RecordCursor cursor = new RecordCursor(channel, firstOffset, GameJournal.MOVE_RECORD_BYTES);
+            ByteBuffer record;
+            while ((record = cursor.next()) != null) {
+                long recordOffset = cursor.offset() - GameJournal.MOVE_RECORD_BYTES;
+                scanned++;
+                long matchId = record.getLong();
+                Long snapshotOffset = offsets.get(matchId);
+                if (snapshotOffset != null && recordOffset < snapshotOffset) {
+                    continue;
+                }
+                ChessMatch match = matches.computeIfAbsent(matchId, id -> new ChessMatch());
+                if (replay(match, record)) {
+                    replayed++;
+                }
+            }
+            bytesScanned = cursor.offset() - firstOffset;
+        }
+        return new RecoveryResult(matches, snapshotsRead, scanned, bytesScanned, replayed, System.nanoTime() - start);
+    }
+
+    /**
+     * Reconstrói uma partida logo após uma determinada jogada, partindo do snapshot
+     * mais próximo anterior a ela em vez da primeira jogada.
+     *
+     * @param directory diretório do journal
+     * @param matchId   id da partida
+     * @param sequence  número da jogada (0 = antes da primeira jogada registrada)
+     * @throws IllegalArgumentException se a partida ou a jogada não estiverem no journal
+     */
+    public static ChessMatch seek(Path directory, long matchId, long sequence) throws IOException {
+        MatchState best = null;
+        long offset = 0;
+        try (FileChannel channel = open(directory.resolve(GameJournal.SNAPSHOTS_FILE))) {
+            RecordCursor cursor = new RecordCursor(channel, 0, GameJournal.SNAPSHOT_RECORD_BYTES);
+            ByteBuffer record;
+            while ((record = cursor.next()) != null) {
+                if (record.getLong() != matchId) {
+                    continue;
+                }
+                long recordOffset = record.getLong();
+                MatchState state = MatchState.readFrom(record);
+                if (state.getMoveCount() <= sequence && (best == null || state.getMoveCount() > best.getMoveCount())) {
+                    best = state;
+                    offset = recordOffset;
+                }
+            }
+        }
+
+        ChessMatch match = best == null ? new ChessMatch() : new ChessMatch(best);
+        if (match.getMoveCount() == sequence) {
+            return match;
+        }
+        try (FileChannel channel = open(directory.resolve(GameJournal.MOVES_FILE))) {
+            RecordCursor cursor = new RecordCursor(channel, offset, GameJournal.MOVE_RECORD_BYTES);
+            ByteBuffer record;
+            while ((record = cursor.next()) != null) {
+                if (record.getLong() == matchId) {
+                    replay(match, record);
+                    if (match.getMoveCount() == sequence) {
+                        return match;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("Jogada " + sequence + " da partida " + matchId + " não está no journal");
+    }
+
+    // Ids das partidas que já têm snapshot no journal
+    static Set<Long> snapshotMatchIds(Path directory) throws IOException {
+        Set<Long> ids = new HashSet<>();
+        try (FileChannel channel = open(directory.resolve(GameJournal.SNAPSHOTS_FILE))) {
+            RecordCursor cursor = new RecordCursor(channel, 0, GameJournal.SNAPSHOT_RECORD_BYTES);
+            ByteBuffer record;
+            while ((record = cursor.next()) != null) {
+                ids.add(record.getLong());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Aplica o registro de jogada (posicionado após o id) se ele for a próxima jogada da partida.
+     *
+     * @return true se a jogada foi refeita
+     */
+    private static boolean replay(ChessMatch match, ByteBuffer record) {
+        int sequence = record.getInt();
+        int from = record.get();
+        int to = record.get();
+        if (sequence <= match.getMoveCount()) {
+            return false;
+        }
+        if (sequence != match.getMoveCount() + 1) {
+            throw new IllegalStateException("Journal inconsistente: esperada a jogada " + (match.getMoveCount() + 1)
+                    + ", encontrada " + sequence);
+        }
+        ChessPosition source = GameJournal.position(from);
+        ChessPosition target = GameJournal.position(to);
+        match.performChessMove(source, target);
+        return true;
+    }
+
+    // Abre o arquivo para leitura, ou retorna null se ele ainda não existir
+    private static FileChannel open(Path file) throws IOException {
+        return Files.exists(file) ? FileChannel.open(file, StandardOpenOption.READ) : null;
+    }
+
+    // Percorre registros de tamanho fixo de um arquivo (que pode não existir), validando o checksum de cada um
+    private static class RecordCursor {
+        private final FileChannel channel;
+        private final int recordBytes;
+        private final ByteBuffer buffer;
+        private final CRC32 crc = new CRC32();
+        private long position;
+
+        RecordCursor(FileChannel channel, long position, int recordBytes) {
+            this.channel = channel;
+            this.position = position;
+            this.recordBytes = recordBytes;
+            this.buffer = ByteBuffer.allocate(CHUNK_RECORDS * recordBytes);
+            buffer.limit(0);
+        }
+
+        // Posição no arquivo logo após o último registro devolvido por next()
+        long offset() {
+            return position - buffer.remaining();
+        }
+
+        /**
+         * Retorna o próximo registro válido, como um buffer posicionado no início do registro,
+         * ou null no fim do arquivo ou em um registro corrompido.
+         */
+        ByteBuffer next() throws IOException {
+            if (channel == null) {
+                return null;
+            }
+            if (buffer.remaining() < recordBytes) {
+                buffer.compact();
+                int n;
+                while (buffer.hasRemaining() && (n = channel.read(buffer, position)) > 0) {
+                    position += n;
+                }
+                buffer.flip();
+                if (buffer.remaining() < recordBytes) {
+                    return null;
+                }
+            }
+            int start = buffer.position();
+            crc.reset();
+            crc.update(buffer.array(), buffer.arrayOffset() + start, recordBytes - 4);
+            if ((int) crc.getValue() != buffer.getInt(start + recordBytes - 4)) {
+                return null;
+            }
+            ByteBuffer record = buffer.slice(start, recordBytes);
+            buffer.position(start + recordBytes);
+            return record;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package chess.journal;
+
+// Contadores de escrita do journal em um determinado momento
+public class JournalStats {
+    private final long moves;
+    private final long snapshots;
+    private final long batches;
+    private final long syncs;
+    private final long bytes;
+    private final long syncNanos;
+    private final long elapsedNanos;
+
+    public JournalStats(long moves, long snapshots, long batches, long syncs, long bytes, long syncNanos,
+                        long elapsedNanos) {
+        this.moves = moves;
+        this.snapshots = snapshots;
+        this.batches = batches;
+        this.syncs = syncs;
+        this.bytes = bytes;
+        this.syncNanos = syncNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getSnapshots() {
+        return snapshots;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getSyncs() {
+        return syncs;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    // Registros gravados por lote (quanto maior, melhor o aproveitamento de cada fsync)
+    public double getAverageBatchSize() {
+        return batches == 0 ? 0 : (double) (moves + snapshots) / batches;
+    }
+
+    public double getAverageSyncMicros() {
+        return syncs == 0 ? 0 : syncNanos / 1000.0 / syncs;
+    }
+
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0 : moves * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("jogadas=%d snapshots=%d lotes=%d fsyncs=%d bytes=%d media/lote=%.1f "
+                        + "fsync=%.1fus jogadas/s=%.0f",
+                moves, snapshots, batches, syncs, bytes, getAverageBatchSize(), getAverageSyncMicros(),
+                getMovesPerSecond());
+    }
+}
@@ -0,0 +1,57 @@
+package chess.journal;
+
+import chess.ChessMatch;
+
+import java.util.Map;
+
+// Partidas reconstruídas a partir do journal e o custo da reconstrução
+public class RecoveryResult {
+    private final Map<Long, ChessMatch> matches;
+    private final long snapshotsRead;
+    private final long recordsScanned;
+    private final long bytesScanned;
+    private final long movesReplayed;
+    private final long elapsedNanos;
+
+    public RecoveryResult(Map<Long, ChessMatch> matches, long snapshotsRead, long recordsScanned,
+                          long bytesScanned, long movesReplayed, long elapsedNanos) {
+        this.matches = matches;
+        this.snapshotsRead = snapshotsRead;
+        this.recordsScanned = recordsScanned;
+        this.bytesScanned = bytesScanned;
+        this.movesReplayed = movesReplayed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Partidas indexadas pelo id usado no journal
+    public Map<Long, ChessMatch> getMatches() {
+        return matches;
+    }
+
+    public long getSnapshotsRead() {
+        return snapshotsRead;
+    }
+
+    public long getRecordsScanned() {
+        return recordsScanned;
+    }
+
+    // Bytes de moves.log percorridos, a partir do snapshot mais antigo entre as partidas
+    public long getBytesScanned() {
+        return bytesScanned;
+    }
+
+    public long getMovesReplayed() {
+        return movesReplayed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("partidas=%d snapshots=%d registros lidos=%d (%d bytes) jogadas refeitas=%d tempo=%.1fms",
+                matches.size(), snapshotsRead, recordsScanned, bytesScanned, movesReplayed, elapsedNanos / 1e6);
+    }
+}
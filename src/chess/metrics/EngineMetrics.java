@@ -0,0 +1,184 @@
+package chess.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores e histogramas de latência do motor de regras (ChessMatch), compartilhados
+ * por todas as partidas da JVM.
+ * <p>
+ * A coleta começa desligada (ou ligada com {@code -Dchess.metrics=true}) e pode ser
+ * alternada em tempo de execução por {@link #setEnabled} ou pelo JMX, no objeto
+ * {@value #OBJECT_NAME}. Desligada, o custo em cada ponto instrumentado é a leitura
+ * de um campo volatile.
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+    public static final String OBJECT_NAME = "chess:type=EngineMetrics";
+    private static final String PIECE_TYPES = "PNBRQK";
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+
+    private volatile boolean enabled = Boolean.getBoolean("chess.metrics");
+
+    private final LatencyHistogram moves = new LatencyHistogram();
+    private final LongAdder rejectedMoves = new LongAdder();
+    private final LatencyHistogram checkTests = new LatencyHistogram();
+    private final LatencyHistogram checkMateTests = new LatencyHistogram();
+    private final LongAdder[] possibleMoves = new LongAdder[PIECE_TYPES.length() + 1];
+
+    private EngineMetrics() {
+        for (int i = 0; i < possibleMoves.length; i++) {
+            possibleMoves[i] = new LongAdder();
+        }
+    }
+
+    public static EngineMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registra as métricas no MBeanServer da plataforma (sem efeito se já estiverem registradas).
+     */
+    public static void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Já registrado
+        } catch (JMException e) {
+            throw new IllegalStateException("Erro ao registrar " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void recordMove(long nanos) {
+        moves.record(nanos);
+    }
+
+    public void recordRejectedMove() {
+        rejectedMoves.increment();
+    }
+
+    public void recordCheckTest(long nanos) {
+        checkTests.record(nanos);
+    }
+
+    public void recordCheckMateTest(long nanos) {
+        checkMateTests.record(nanos);
+    }
+
+    /**
+     * Conta uma chamada a possibleMoves.
+     *
+     * @param pieceType letra do tipo da peça (ex: 'K')
+     */
+    public void recordPossibleMoves(char pieceType) {
+        int i = PIECE_TYPES.indexOf(pieceType);
+        possibleMoves[i < 0 ? PIECE_TYPES.length() : i].increment();
+    }
+
+    @Override
+    public long getMovesPerformed() {
+        return moves.getCount();
+    }
+
+    @Override
+    public long getMovesRejected() {
+        return rejectedMoves.sum();
+    }
+
+    @Override
+    public double getMoveMeanMicros() {
+        return moves.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getMoveP99Micros() {
+        return moves.percentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getMoveMaxMicros() {
+        return moves.getMaxNanos() / 1000.0;
+    }
+
+    @Override
+    public long getCheckTests() {
+        return checkTests.getCount();
+    }
+
+    @Override
+    public double getCheckTestMeanMicros() {
+        return checkTests.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public long getCheckMateTests() {
+        return checkMateTests.getCount();
+    }
+
+    @Override
+    public double getCheckMateTestMeanMicros() {
+        return checkMateTests.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getCheckMateTestP99Micros() {
+        return checkMateTests.percentile(99) / 1000.0;
+    }
+
+    @Override
+    public Map<String, Long> getPossibleMovesCalls() {
+        Map<String, Long> calls = new LinkedHashMap<>();
+        for (int i = 0; i < PIECE_TYPES.length(); i++) {
+            calls.put(String.valueOf(PIECE_TYPES.charAt(i)), possibleMoves[i].sum());
+        }
+        calls.put("?", possibleMoves[PIECE_TYPES.length()].sum());
+        return calls;
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("enabled ").append(enabled).append('\n');
+        sb.append("moves.rejected ").append(getMovesRejected()).append('\n');
+        appendHistogram(sb, "moves", moves);
+        appendHistogram(sb, "testCheck", checkTests);
+        appendHistogram(sb, "testCheckMate", checkMateTests);
+        for (Map.Entry<String, Long> e : getPossibleMovesCalls().entrySet()) {
+            sb.append("possibleMoves.").append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, LatencyHistogram h) {
+        sb.append(String.format("%s.count %d%n%s.mean_us %.2f%n%s.p50_us %.2f%n%s.p99_us %.2f%n%s.max_us %.2f%n",
+                name, h.getCount(), name, h.getMeanNanos() / 1000.0, name, h.percentile(50) / 1000.0,
+                name, h.percentile(99) / 1000.0, name, h.getMaxNanos() / 1000.0));
+    }
+
+    @Override
+    public void reset() {
+        moves.reset();
+        rejectedMoves.reset();
+        checkTests.reset();
+        checkMateTests.reset();
+        for (LongAdder counter : possibleMoves) {
+            counter.reset();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package chess.metrics;
+
+import java.util.Map;
+
+// Interface de gerenciamento (JMX) das métricas do motor de regras
+public interface EngineMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getMovesPerformed();
+
+    long getMovesRejected();
+
+    double getMoveMeanMicros();
+
+    double getMoveP99Micros();
+
+    double getMoveMaxMicros();
+
+    long getCheckTests();
+
+    double getCheckTestMeanMicros();
+
+    long getCheckMateTests();
+
+    double getCheckMateTestMeanMicros();
+
+    double getCheckMateTestP99Micros();
+
+    // Chamadas a possibleMoves por tipo de peça (K, Q, R, B, N, P)
+    Map<String, Long> getPossibleMovesCalls();
+
+    // Texto com todas as métricas
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,154 @@
+package chess.pieces;
+
+import boardgame.Board;
+import boardgame.Piece;
+import chess.ChessPiece;
+import chess.Color;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Quantidade de peças de cada cor que atacam cada casa do tabuleiro.
+ * <p>
+ * Os ataques vêm da {@link Movement} de cada peça: saltos (no peão, só os de captura) e raios
+ * de deslizamento até a primeira peça, inclusive. Casas ocupadas por peças da mesma cor também
+ * contam como atacadas, já que estão defendidas.
+ * <p>
+ * O mapa é atualizado a cada alteração do tabuleiro, sem recalcular tudo: além das contribuições
+ * da própria peça, só mudam os raios das peças deslizantes que passam pela casa alterada, e só
+ * no trecho depois dela. Quem altera o tabuleiro chama {@link #vacate(int)} antes de esvaziar
+ * uma casa e {@link #occupy(int)} depois de ocupar uma casa vazia; quando uma peça é trocada por
+ * outra na mesma casa (captura), basta {@link #remove(ChessPiece)} e {@link #add(ChessPiece)}.
+ */
+public class AttackMap {
+    private final Board board;
+    private final MoveTables tables;
+    // counts[cor][casa]
+    private final int[][] counts;
+
+    public AttackMap(Board board) {
+        this.board = board;
+        this.tables = MoveTables.of(board.getRows(), board.getColumns());
+        this.counts = new int[Color.values().length][board.getRows() * board.getColumns()];
+    }
+
+    // Quantidade de peças da cor que atacam a casa
+    public int count(Color color, int square) {
+        return counts[color.ordinal()][square];
+    }
+
+    public boolean isAttacked(int square, Color by) {
+        return counts[by.ordinal()][square] > 0;
+    }
+
+    // Recalcula tudo a partir das peças no tabuleiro
+    public void recompute(List<? extends Piece> pieces) {
+        for (int[] colorCounts : counts) {
+            Arrays.fill(colorCounts, 0);
+        }
+        for (int i = 0; i < pieces.size(); i++) {
+            update((TablePiece) pieces.get(i), 1);
+        }
+    }
+
+    /**
+     * Retira a peça da casa do mapa e estende os raios que passavam por ela.
+     * Deve ser chamado antes de remover a peça do tabuleiro.
+     *
+     * @param square casa ocupada que vai ficar vazia
+     */
+    public void vacate(int square) {
+        update((TablePiece) board.piece(square), -1);
+        throughSquare(square, 1);
+    }
+
+    /**
+     * Encurta os raios que passam pela casa e soma os ataques da peça colocada nela.
+     * Deve ser chamado depois de colocar a peça em uma casa que estava vazia.
+     *
+     * @param square casa que acabou de ser ocupada
+     */
+    public void occupy(int square) {
+        throughSquare(square, -1);
+        update((TablePiece) board.piece(square), 1);
+    }
+
+    // Soma os ataques de uma peça que ocupou uma casa já ocupada (sem mudar os raios)
+    public void add(ChessPiece piece) {
+        update((TablePiece) piece, 1);
+    }
+
+    // Retira os ataques de uma peça que vai dar lugar a outra na mesma casa
+    public void remove(ChessPiece piece) {
+        update((TablePiece) piece, -1);
+    }
+
+    /**
+     * Compara o mapa com um recálculo completo.
+     *
+     * @return true se as contagens forem iguais
+     */
+    public boolean verify(List<? extends Piece> pieces) {
+        AttackMap fresh = new AttackMap(board);
+        fresh.recompute(pieces);
+        for (int c = 0; c < counts.length; c++) {
+            if (!Arrays.equals(counts[c], fresh.counts[c])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Para cada peça deslizante cujo raio chega até a casa, soma {@code delta} nas casas do raio
+     * depois dela, até a primeira peça, inclusive.
+     */
+    private void throughSquare(int square, int delta) {
+        for (int direction = 0; direction < Directions.VECTORS.length; direction++) {
+            int[] ray = tables.rays[direction][square];
+            for (int k = 0; k < ray.length; k++) {
+                Piece p = board.piece(ray[k]);
+                if (p == null) {
+                    continue;
+                }
+                Movement movement = ((TablePiece) p).movement();
+                int opposite = Directions.OPPOSITE[direction];
+                if (movement.attacksAlong[opposite]) {
+                    int[] beyond = tables.rays[opposite][square];
+                    int length = Math.min(beyond.length, movement.slideRange - k - 1);
+                    int[] colorCounts = counts[((TablePiece) p).getColor().ordinal()];
+                    for (int j = 0; j < length; j++) {
+                        colorCounts[beyond[j]] += delta;
+                        if (board.piece(beyond[j]) != null) {
+                            break;
+                        }
+                    }
+                }
+                break;
+            }
+        }
+    }
+
+    private void update(TablePiece p, int delta) {
+        int from = p.square();
+        int[] colorCounts = counts[p.getColor().ordinal()];
+        Movement movement = p.movement();
+        for (int to : tables.leaps[movement.ordinal()][from]) {
+            colorCounts[to] += delta;
+        }
+        for (int direction : movement.slides) {
+            if (!movement.attacksAlong[direction]) {
+                continue;
+            }
+            int[] ray = tables.rays[direction][from];
+            int length = Math.min(ray.length, movement.slideRange);
+            for (int k = 0; k < length; k++) {
+                colorCounts[ray[k]] += delta;
+                if (board.piece(ray[k]) != null) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package chess.pieces;
+
+import boardgame.Board;
+import boardgame.MoveSet;
+import boardgame.Piece;
+import boardgame.Position;
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+import chess.Color;
+import chess.MatchState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara a manutenção incremental do {@link AttackMap} (só as peças afetadas pela jogada) com o
+ * recálculo completo a cada alteração do tabuleiro. Cada operação é fazer e desfazer uma jogada,
+ * como nas jogadas de teste de ChessMatch.
+ * <p>
+ * Antes de medir, confere com {@link AttackMap#verify(List)} que o mapa incremental continua
+ * igual ao recalculado depois de cada jogada. Argumentos: número de posições (padrão 400) e
+ * repetições (padrão 200). As posições vêm de partidas aleatórias com semente fixa.
+ */
+public class AttackMapBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        List<Setup> setups = new ArrayList<>();
+        for (MatchState state : positions(count)) {
+            setups.add(new Setup(state));
+        }
+
+        long moves = 0;
+        for (Setup setup : setups) {
+            moves += setup.verify();
+        }
+        System.out.printf("%d posições, %d jogadas conferidas%n", setups.size(), moves);
+
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            long sink = 0;
+            for (int r = 0; r < repetitions; r++) {
+                for (Setup setup : setups) {
+                    sink += setup.run(true);
+                }
+            }
+            long incremental = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int r = 0; r < repetitions; r++) {
+                for (Setup setup : setups) {
+                    sink += setup.run(false);
+                }
+            }
+            long recompute = System.nanoTime() - start;
+            double operations = (double) repetitions * moves;
+            if (round == 1 && sink != Long.MIN_VALUE) {
+                System.out.printf("incremental: %8.1f ns/jogada%n", incremental / operations);
+                System.out.printf("recálculo:   %8.1f ns/jogada (%.1fx)%n", recompute / operations,
+                        (double) recompute / incremental);
+            }
+        }
+    }
+
+    private static List<MatchState> positions(int count) {
+        Random random = new Random(11);
+        List<MatchState> positions = new ArrayList<>();
+        while (positions.size() < count) {
+            ChessMatch match = new ChessMatch();
+            for (int ply = 0; ply < 80 && positions.size() < count; ply++) {
+                List<ChessMove> legalMoves = match.legalMoves();
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                positions.add(match.getState());
+                ChessMove move = legalMoves.get(random.nextInt(legalMoves.size()));
+                match.performChessMove(move.getSource(), move.getTarget());
+            }
+        }
+        return positions;
+    }
+
+    // Tabuleiro próprio com as peças de uma posição e as jogadas possíveis de todas elas
+    private static class Setup {
+        private final Board board = new Board(8, 8);
+        private final List<Piece> pieces = new ArrayList<>();
+        private final AttackMap attacks = new AttackMap(board);
+        private final List<int[]> moves = new ArrayList<>();
+
+        Setup(MatchState state) {
+            for (int square = 0; square < MatchState.SQUARES; square++) {
+                char type = state.pieceType(square);
+                if (type != 0) {
+                    ChessPiece piece = newPiece(type, state.pieceColor(square));
+                    board.placePiece(piece, new Position(square / 8, square % 8));
+                    pieces.add(piece);
+                }
+            }
+            attacks.recompute(pieces);
+            MoveSet targets = new MoveSet(board);
+            for (Piece piece : pieces) {
+                targets.clear();
+                piece.possibleMoves(targets);
+                for (int i = 0; i < targets.size(); i++) {
+                    moves.add(new int[]{((TablePiece) piece).square(), targets.square(i)});
+                }
+            }
+        }
+
+        private ChessPiece newPiece(char type, Color color) {
+            return switch (type) {
+                case 'K' -> new King(board, color);
+                case 'Q' -> new Queen(board, color);
+                case 'R' -> new Rook(board, color);
+                case 'B' -> new Bishop(board, color);
+                case 'N' -> new Knight(board, color);
+                default -> new Pawn(board, color);
+            };
+        }
+
+        // Faz e desfaz cada jogada, conferindo o mapa incremental depois de cada uma
+        int verify() {
+            for (int[] move : moves) {
+                Piece captured = make(move[0], move[1], true);
+                check();
+                undo(move[0], move[1], captured, true);
+                check();
+            }
+            return moves.size();
+        }
+
+        private void check() {
+            if (!attacks.verify(pieces)) {
+                throw new IllegalStateException("Mapa de ataques incremental diverge do recálculo");
+            }
+        }
+
+        long run(boolean incremental) {
+            long sum = 0;
+            for (int[] move : moves) {
+                Piece captured = make(move[0], move[1], incremental);
+                sum += attacks.count(Color.WHITE, move[1]);
+                undo(move[0], move[1], captured, incremental);
+            }
+            return sum;
+        }
+
+        private Piece make(int from, int to, boolean incremental) {
+            if (incremental) {
+                attacks.vacate(from);
+            }
+            Piece p = board.removePiece(position(from));
+            Piece captured = board.piece(to);
+            if (captured != null) {
+                if (incremental) {
+                    attacks.remove((ChessPiece) captured);
+                }
+                board.removePiece(position(to));
+                pieces.remove(captured);
+            }
+            board.placePiece(p, position(to));
+            if (!incremental) {
+                attacks.recompute(pieces);
+            } else if (captured != null) {
+                attacks.add((ChessPiece) p);
+            } else {
+                attacks.occupy(to);
+            }
+            return captured;
+        }
+
+        private void undo(int from, int to, Piece captured, boolean incremental) {
+            Piece p = board.piece(to);
+            if (incremental) {
+                if (captured != null) {
+                    attacks.remove((ChessPiece) p);
+                } else {
+                    attacks.vacate(to);
+                }
+            }
+            board.removePiece(position(to));
+            if (captured != null) {
+                board.placePiece(captured, position(to));
+                pieces.add(captured);
+                if (incremental) {
+                    attacks.add((ChessPiece) captured);
+                }
+            }
+            board.placePiece(p, position(from));
+            if (incremental) {
+                attacks.occupy(from);
+            } else {
+                attacks.recompute(pieces);
+            }
+        }
+
+        private static Position position(int square) {
+            return new Position(square / 8, square % 8);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package chess.pieces;
+
+import boardgame.Board;
+import chess.Color;
+
+public class Bishop extends TablePiece {
+    public Bishop(Board board, Color color) {
+        super(board, color, Movement.BISHOP);
+    }
+
+    @Override
+    public String toString() {
+        return "B";
+    }
+}
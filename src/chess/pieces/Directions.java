@@ -0,0 +1,39 @@
+package chess.pieces;
+
+// As oito direções do tabuleiro, como deslocamentos (linha, coluna); linha 0 é o topo (linha 8)
+final class Directions {
+    static final int NORTH = 0;
+    static final int SOUTH = 1;
+    static final int WEST = 2;
+    static final int EAST = 3;
+    static final int NORTHWEST = 4;
+    static final int NORTHEAST = 5;
+    static final int SOUTHWEST = 6;
+    static final int SOUTHEAST = 7;
+
+    static final int[][] VECTORS = {
+            {-1, 0}, {1, 0}, {0, -1}, {0, 1},
+            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+
+    static final int[] ORTHOGONAL = {NORTH, SOUTH, WEST, EAST};
+    static final int[] DIAGONAL = {NORTHWEST, NORTHEAST, SOUTHWEST, SOUTHEAST};
+    static final int[] ALL = {NORTH, SOUTH, WEST, EAST, NORTHWEST, NORTHEAST, SOUTHWEST, SOUTHEAST};
+
+    // Direção oposta de cada direção
+    static final int[] OPPOSITE = {SOUTH, NORTH, EAST, WEST, SOUTHEAST, SOUTHWEST, NORTHEAST, NORTHWEST};
+
+    // Direção de cada par de sinais (linha, coluna), indexado por (sinal da linha + 1) * 3 + sinal da coluna + 1
+    private static final int[] BY_SIGN = {NORTHWEST, NORTH, NORTHEAST, WEST, -1, EAST, SOUTHWEST, SOUTH, SOUTHEAST};
+
+    private Directions() {
+    }
+
+    // Direção que leva uma casa a outra deslocada de (rows, columns), ou -1 se elas não estiverem alinhadas
+    static int between(int rows, int columns) {
+        if (rows != 0 && columns != 0 && Math.abs(rows) != Math.abs(columns)) {
+            return -1;
+        }
+        return BY_SIGN[(Integer.signum(rows) + 1) * 3 + Integer.signum(columns) + 1];
+    }
+}
@@ -0,0 +1,15 @@
+package chess.pieces;
+
+import boardgame.Board;
+import chess.Color;
+
+public class Knight extends TablePiece {
+    public Knight(Board board, Color color) {
+        super(board, color, Movement.KNIGHT);
+    }
+
+    @Override
+    public String toString() {
+        return "N";
+    }
+}
@@ -0,0 +1,134 @@
+package chess.pieces;
+
+import boardgame.Board;
+import boardgame.MoveSet;
+import boardgame.Position;
+import chess.ChessPiece;
+import chess.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara a geração de movimentos em matriz densa ({@code possibleMoves()} + varredura do
+ * tabuleiro) com a geração em {@link MoveSet} reutilizado, em tabuleiros de 8x8 a 64x64.
+ * Em cada tamanho são colocadas peças de todos os tipos em casas aleatórias (uma peça para
+ * cada oito casas, limitada a 256). Argumento: número de peças processadas por medição
+ * (padrão 200000).
+ * <p>
+ * Os dois caminhos são aquecidos em todos os tamanhos antes de qualquer medição, cada tamanho
+ * processa o mesmo número de peças e vale o melhor de {@value #TRIALS} medições alternadas.
+ */
+public class MoveSetBenchmark {
+    private static final int[] SIZES = {8, 16, 32, 64};
+    private static final int TRIALS = 5;
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        List<List<ChessPiece>> boards = new ArrayList<>();
+        for (int size : SIZES) {
+            boards.add(setup(size));
+        }
+
+        // Aquecimento dos dois caminhos em todos os tamanhos, conferindo que geram as mesmas casas
+        for (int i = 0; i < SIZES.length; i++) {
+            List<ChessPiece> pieces = boards.get(i);
+            MoveSet moves = new MoveSet(SIZES[i], SIZES[i]);
+            int repetitions = repetitions(operations, pieces);
+            for (int t = 0; t < TRIALS; t++) {
+                if (sparse(pieces, moves, repetitions) != dense(pieces, repetitions)) {
+                    throw new IllegalStateException("Contagens diferentes no tabuleiro " + SIZES[i] + "x" + SIZES[i]);
+                }
+            }
+        }
+
+        System.out.printf("%-10s %8s %14s %16s %8s%n", "tabuleiro", "peças", "densa ns/peça", "esparsa ns/peça", "ganho");
+        for (int i = 0; i < SIZES.length; i++) {
+            List<ChessPiece> pieces = boards.get(i);
+            MoveSet moves = new MoveSet(SIZES[i], SIZES[i]);
+            int repetitions = repetitions(operations, pieces);
+            long denseNanos = Long.MAX_VALUE;
+            long sparseNanos = Long.MAX_VALUE;
+            for (int t = 0; t < TRIALS; t++) {
+                long start = System.nanoTime();
+                dense(pieces, repetitions);
+                denseNanos = Math.min(denseNanos, System.nanoTime() - start);
+                start = System.nanoTime();
+                sparse(pieces, moves, repetitions);
+                sparseNanos = Math.min(sparseNanos, System.nanoTime() - start);
+            }
+
+            double total = (double) repetitions * pieces.size();
+            System.out.printf("%-10s %8d %14.1f %16.1f %7.1fx%n", SIZES[i] + "x" + SIZES[i], pieces.size(),
+                    denseNanos / total, sparseNanos / total, (double) denseNanos / sparseNanos);
+        }
+    }
+
+    // Repetições para que cada tamanho processe (ao menos) o número pedido de peças
+    private static int repetitions(int operations, List<ChessPiece> pieces) {
+        return Math.max(1, operations / pieces.size());
+    }
+
+    private static List<ChessPiece> setup(int size) {
+        Board board = new Board(size, size);
+        Random random = new Random(size);
+        int count = Math.min(size * size / 8, 256);
+        List<ChessPiece> pieces = new ArrayList<>();
+        while (pieces.size() < count) {
+            Position position = new Position(random.nextInt(size), random.nextInt(size));
+            if (board.thereIsAPiece(position)) {
+                continue;
+            }
+            Color color = random.nextBoolean() ? Color.WHITE : Color.BLACK;
+            ChessPiece piece = newPiece(pieces.size() % 6, board, color);
+            board.placePiece(piece, position);
+            pieces.add(piece);
+        }
+        return pieces;
+    }
+
+    private static ChessPiece newPiece(int type, Board board, Color color) {
+        switch (type) {
+            case 0: return new King(board, color);
+            case 1: return new Queen(board, color);
+            case 2: return new Rook(board, color);
+            case 3: return new Bishop(board, color);
+            case 4: return new Knight(board, color);
+            default: return new Pawn(board, color);
+        }
+    }
+
+    // Caminho antigo: matriz nova por peça e varredura de todas as casas
+    private static long dense(List<ChessPiece> pieces, int repetitions) {
+        long sum = 0;
+        for (int r = 0; r < repetitions; r++) {
+            for (ChessPiece piece : pieces) {
+                boolean[][] mat = piece.possibleMoves();
+                for (int i = 0; i < mat.length; i++) {
+                    for (int j = 0; j < mat[i].length; j++) {
+                        if (mat[i][j]) {
+                            sum += i * mat[i].length + j;
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    // Caminho esparso: conjunto reutilizado, percorrendo só os movimentos gerados
+    private static long sparse(List<ChessPiece> pieces, MoveSet moves, int repetitions) {
+        long sum = 0;
+        for (int r = 0; r < repetitions; r++) {
+            for (ChessPiece piece : pieces) {
+                moves.clear();
+                piece.possibleMoves(moves);
+                for (int i = 0; i < moves.size(); i++) {
+                    sum += moves.square(i);
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,70 @@
+package chess.pieces;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabelas pré-calculadas de movimento para um tabuleiro de dimensões fixas: para cada casa,
+ * as casas de cada raio (direção) em ordem de distância e as casas alcançadas pelos saltos
+ * de cada {@link Movement}. As casas são índices {@code linha * colunas + coluna}.
+ * <p>
+ * As tabelas são imutáveis e compartilhadas por todos os tabuleiros com as mesmas dimensões.
+ */
+final class MoveTables {
+    private static final Map<Long, MoveTables> CACHE = new ConcurrentHashMap<>();
+
+    final int columns;
+    // rays[direção][casa] = casas do raio, da mais próxima para a mais distante
+    final int[][][] rays;
+    // leaps[movimento][casa] = casas alcançadas pelos saltos do movimento
+    final int[][][] leaps;
+
+    private MoveTables(int rows, int columns) {
+        this.columns = columns;
+        int squares = rows * columns;
+        rays = new int[Directions.VECTORS.length][squares][];
+        for (int d = 0; d < Directions.VECTORS.length; d++) {
+            for (int square = 0; square < squares; square++) {
+                rays[d][square] = ray(rows, columns, square, Directions.VECTORS[d]);
+            }
+        }
+        Movement[] movements = Movement.values();
+        leaps = new int[movements.length][squares][];
+        for (Movement movement : movements) {
+            for (int square = 0; square < squares; square++) {
+                leaps[movement.ordinal()][square] = leaps(rows, columns, square, movement.leaps);
+            }
+        }
+    }
+
+    static MoveTables of(int rows, int columns) {
+        return CACHE.computeIfAbsent(((long) rows << 32) | columns, k -> new MoveTables(rows, columns));
+    }
+
+    private static int[] ray(int rows, int columns, int square, int[] vector) {
+        int row = square / columns + vector[0];
+        int column = square % columns + vector[1];
+        int length = 0;
+        int[] ray = new int[Math.max(rows, columns)];
+        while (row >= 0 && row < rows && column >= 0 && column < columns) {
+            ray[length++] = row * columns + column;
+            row += vector[0];
+            column += vector[1];
+        }
+        return Arrays.copyOf(ray, length);
+    }
+
+    private static int[] leaps(int rows, int columns, int square, int[][] offsets) {
+        int[] targets = new int[offsets.length];
+        int length = 0;
+        for (int[] offset : offsets) {
+            int row = square / columns + offset[0];
+            int column = square % columns + offset[1];
+            if (row >= 0 && row < rows && column >= 0 && column < columns) {
+                targets[length++] = row * columns + column;
+            }
+        }
+        return Arrays.copyOf(targets, length);
+    }
+}
@@ -0,0 +1,57 @@
+package chess.pieces;
+
+/**
+ * Descrição de como cada tipo de peça se move, usada pelo gerador comum de {@link TablePiece}.
+ * <p>
+ * Um tipo de peça combina saltos (deslocamentos fixos de linha e coluna, como o cavalo e o rei)
+ * e deslizamentos (direções percorridas casa a casa até encontrar uma peça, como a torre).
+ * O peão usa as duas coisas com restrições: desliza para frente só para casas vazias, até duas
+ * casas no primeiro movimento, e salta na diagonal só para capturar.
+ */
+public enum Movement {
+    KING(offsets(Directions.ALL), false, new int[0], 0, 0, false),
+    QUEEN(new int[0][], false, Directions.ALL, Integer.MAX_VALUE, Integer.MAX_VALUE, false),
+    ROOK(new int[0][], false, Directions.ORTHOGONAL, Integer.MAX_VALUE, Integer.MAX_VALUE, false),
+    BISHOP(new int[0][], false, Directions.DIAGONAL, Integer.MAX_VALUE, Integer.MAX_VALUE, false),
+    KNIGHT(new int[][]{{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}},
+            false, new int[0], 0, 0, false),
+    WHITE_PAWN(new int[][]{{-1, -1}, {-1, 1}}, true, new int[]{Directions.NORTH}, 1, 2, true),
+    BLACK_PAWN(new int[][]{{1, -1}, {1, 1}}, true, new int[]{Directions.SOUTH}, 1, 2, true);
+
+    // Deslocamentos (linha, coluna) dos saltos
+    final int[][] leaps;
+    // Saltos só valem para capturar
+    final boolean leapsCaptureOnly;
+    // Direções (índices de Directions.VECTORS) dos deslizamentos
+    final int[] slides;
+    // Máximo de casas por deslizamento, depois e antes do primeiro movimento da peça
+    final int slideRange;
+    final int firstSlideRange;
+    // Deslizamentos só valem para casas vazias
+    final boolean slidesQuietOnly;
+    // attacksAlong[direção]: a peça ataca deslizando nessa direção
+    final boolean[] attacksAlong = new boolean[Directions.VECTORS.length];
+
+    Movement(int[][] leaps, boolean leapsCaptureOnly, int[] slides, int slideRange, int firstSlideRange,
+             boolean slidesQuietOnly) {
+        this.leaps = leaps;
+        this.leapsCaptureOnly = leapsCaptureOnly;
+        this.slides = slides;
+        this.slideRange = slideRange;
+        this.firstSlideRange = firstSlideRange;
+        this.slidesQuietOnly = slidesQuietOnly;
+        if (!slidesQuietOnly) {
+            for (int direction : slides) {
+                attacksAlong[direction] = true;
+            }
+        }
+    }
+
+    private static int[][] offsets(int[] directions) {
+        int[][] offsets = new int[directions.length][];
+        for (int i = 0; i < directions.length; i++) {
+            offsets[i] = Directions.VECTORS[directions[i]];
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,15 @@
+package chess.pieces;
+
+import boardgame.Board;
+import chess.Color;
+
+public class Queen extends TablePiece {
+    public Queen(Board board, Color color) {
+        super(board, color, Movement.QUEEN);
+    }
+
+    @Override
+    public String toString() {
+        return "Q";
+    }
+}
@@ -0,0 +1,123 @@
+package chess.pieces;
+
+import boardgame.Board;
+import boardgame.MoveSet;
+import boardgame.Position;
+import chess.ChessPiece;
+import chess.Color;
+
+/**
+ * Peça cujos movimentos são gerados a partir da sua {@link Movement} e das {@link MoveTables}
+ * do tabuleiro, em um único laço compartilhado por todos os tipos de peça.
+ */
+public abstract class TablePiece extends ChessPiece {
+    private final Movement movement;
+    private final MoveTables tables;
+
+    protected TablePiece(Board board, Color color, Movement movement) {
+        super(board, color);
+        this.movement = movement;
+        this.tables = MoveTables.of(board.getRows(), board.getColumns());
+    }
+
+    Movement movement() {
+        return movement;
+    }
+
+    // Índice da casa da peça, ou -1 se ela estiver fora do tabuleiro
+    int square() {
+        return position == null ? -1 : position.getRow() * tables.columns + position.getColumn();
+    }
+
+    @Override
+    public boolean[][] possibleMoves() {
+        return moveSet().toMatrix();
+    }
+
+    /**
+     * Confere só o destino informado, sem gerar os demais movimentos: um salto é procurado
+     * na tabela de saltos da casa, e um deslizamento percorre apenas as casas entre a origem e o
+     * destino.
+     */
+    @Override
+    public boolean possibleMove(Position target) {
+        Board board = getBoard();
+        if (position == null || !board.positionExists(target)) {
+            return false;
+        }
+        int from = position.getRow() * tables.columns + position.getColumn();
+        int to = target.getRow() * tables.columns + target.getColumn();
+        ChessPiece p = (ChessPiece) board.piece(to);
+        if (p != null && p.getColor() == getColor()) {
+            return false;
+        }
+
+        for (int leap : tables.leaps[movement.ordinal()][from]) {
+            if (leap == to && (p != null || !movement.leapsCaptureOnly)) {
+                return true;
+            }
+        }
+
+        int rows = target.getRow() - position.getRow();
+        int columns = target.getColumn() - position.getColumn();
+        int direction = Directions.between(rows, columns);
+        if (direction < 0 || (p != null && movement.slidesQuietOnly)) {
+            return false;
+        }
+        int distance = Math.max(Math.abs(rows), Math.abs(columns));
+        int range = (getMoveCount() == 0) ? movement.firstSlideRange : movement.slideRange;
+        if (distance > range || !slides(direction)) {
+            return false;
+        }
+        int[] ray = tables.rays[direction][from];
+        for (int k = 0; k < distance - 1; k++) {
+            if (board.piece(ray[k]) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean slides(int direction) {
+        for (int d : movement.slides) {
+            if (d == direction) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void possibleMoves(MoveSet out) {
+        Board board = getBoard();
+        int from = position.getRow() * tables.columns + position.getColumn();
+        Color color = getColor();
+
+        //Deslizamentos: percorre cada raio até a primeira peça
+        int range = (getMoveCount() == 0) ? movement.firstSlideRange : movement.slideRange;
+        for (int direction : movement.slides) {
+            int[] ray = tables.rays[direction][from];
+            int length = Math.min(ray.length, range);
+            for (int k = 0; k < length; k++) {
+                int to = ray[k];
+                ChessPiece p = (ChessPiece) board.piece(to);
+                if (p == null) {
+                    out.add(to);
+                } else {
+                    if (!movement.slidesQuietOnly && p.getColor() != color) {
+                        out.add(to);
+                    }
+                    break;
+                }
+            }
+        }
+
+        //Saltos: casas vazias ou com peça adversária
+        for (int to : tables.leaps[movement.ordinal()][from]) {
+            ChessPiece p = (ChessPiece) board.piece(to);
+            if (p == null ? !movement.leapsCaptureOnly : p.getColor() != color) {
+                out.add(to);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package chess.server;
+
+import boardgame.BoardException;
+import chess.ChessException;
+import chess.ChessMove;
+import chess.MoveDelta;
+import chess.concurrent.ConcurrentChessMatch;
+import chess.concurrent.DeltaSubscription;
+import chess.concurrent.MatchSnapshot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Atende um cliente conectado ao {@link MatchServer}, uma linha de comando por vez.
+ * <p>
+ * Protocolo (texto, uma linha por comando, respostas iniciam com "OK" ou "ERR"):
+ * <pre>
+ * NEW            cria uma partida e entra nela       -> OK &lt;id&gt;
+ * JOIN &lt;id&gt;      entra em uma partida existente      -> OK &lt;id&gt; &lt;turno&gt; &lt;jogador&gt;
+ * MOVE e2e4      executa uma jogada                  -> OK &lt;capturada|-&gt; &lt;turno&gt; &lt;jogador&gt; [CHECK|CHECKMATE]
+ * BOARD          tabuleiro em 64 caracteres          -> OK rnbqkbnr...
+ * STATUS         estado da partida                   -> OK &lt;turno&gt; &lt;jogador&gt; &lt;check&gt; &lt;checkmate&gt;
+ * SINCE &lt;seq&gt;    jogadas após a sequência informada  -> OK &lt;n&gt; &lt;delta&gt;;&lt;delta&gt;...
+ *                ou, se o histórico já foi descartado    RESYNC &lt;seq&gt; rnbqkbnr...
+ * METRICS        métricas do servidor                -> OK games=.. sessions=.. ...
+ * QUIT           encerra a sessão                    -> OK bye
+ * </pre>
+ * As deltas seguem o formato de {@link MoveDelta#toString()}.
+ * No tabuleiro, peças brancas são maiúsculas, pretas minúsculas e casas vazias '-',
+ * da linha 8 para a linha 1.
+ */
+public class ClientSession implements Runnable {
+    // Máximo de deltas devolvidas por um comando SINCE
+    private static final int MAX_DELTAS = 256;
+
+    private final Socket socket;
+    private final MatchRegistry registry;
+    private final ServerMetrics metrics;
+    private HostedMatch current;
+
+    public ClientSession(Socket socket, MatchRegistry registry, ServerMetrics metrics) {
+        this.socket = socket;
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        metrics.sessionOpened();
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String response = handle(line.trim());
+                out.print(response);
+                out.print('\n');
+                out.flush();
+                if (response.equals("OK bye")) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Conexão encerrada pelo cliente
+        } finally {
+            metrics.sessionClosed();
+        }
+    }
+
+    // Interpreta um comando e retorna a linha de resposta
+    String handle(String line) {
+        String[] parts = line.split("\\s+", 2);
+        String command = parts[0].toUpperCase();
+        String argument = parts.length > 1 ? parts[1] : "";
+        try {
+            return switch (command) {
+                case "NEW" -> {
+                    current = registry.create();
+                    yield "OK " + current.getId();
+                }
+                case "JOIN" -> join(argument);
+                case "MOVE" -> move(argument);
+                case "BOARD" -> board();
+                case "STATUS" -> status();
+                case "SINCE" -> since(argument);
+                case "METRICS" -> "OK games=" + registry.size()
+                        + " sessions=" + metrics.getActiveSessions()
+                        + " moves=" + metrics.getMoves()
+                        + " rejected=" + metrics.getRejectedMoves()
+                        + " evicted=" + metrics.getEvictedMatches()
+                        + String.format(" avgMoveUs=%.1f maxMoveUs=%.1f",
+                        metrics.getAverageMoveMicros(), metrics.getMaxMoveMicros());
+                case "QUIT" -> "OK bye";
+                default -> "ERR Comando desconhecido: " + command;
+            };
+        } catch (ChessException e) {
+            return "ERR " + e.getMessage();
+        } catch (RuntimeException e) {
+            // Qualquer outra falha (posição fora do tabuleiro, partida encerrada...) vira resposta de erro,
+            // para não derrubar a sessão
+            return "ERR " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private String join(String id) {
+        HostedMatch hosted = registry.get(id);
+        if (hosted == null) {
+            return "ERR Partida inexistente: " + id;
+        }
+        current = hosted;
+        MatchSnapshot s = hosted.getMatch().snapshot();
+        return "OK " + id + " " + s.getTurn() + " " + s.getCurrentPlayer();
+    }
+
+    private String move(String argument) {
+        HostedMatch hosted = currentMatch();
+        ChessMove move = ChessMove.parse(argument);
+        long start = System.nanoTime();
+        MatchSnapshot s;
+        try {
+            s = hosted.getMatch().performChessMove(move);
+        } catch (BoardException e) {
+            metrics.moveRejected();
+            throw e;
+        }
+        metrics.moveAccepted(System.nanoTime() - start);
+        String state = s.getCheckMate() ? " CHECKMATE" : s.getCheck() ? " CHECK" : "";
+        char captured = s.getLastCaptured();
+        return "OK " + (captured == 0 ? '-' : captured) + " " + s.getTurn() + " "
+                + s.getCurrentPlayer() + state;
+    }
+
+    private String since(String argument) {
+        long sequence;
+        try {
+            sequence = Long.parseLong(argument);
+        } catch (NumberFormatException e) {
+            throw new ChessException("Sequência inválida: " + argument);
+        }
+        ConcurrentChessMatch match = currentMatch().getMatch();
+        DeltaSubscription subscription = match.deltas().subscribe(sequence);
+        List<MoveDelta> deltas = new ArrayList<>();
+        if (subscription.poll(deltas, MAX_DELTAS) == DeltaSubscription.LAPPED) {
+            MatchSnapshot s = match.snapshot();
+            return board("RESYNC " + s.getSequence() + " ", s);
+        }
+        StringBuilder sb = new StringBuilder(8 + deltas.size() * 24);
+        sb.append("OK ").append(deltas.size());
+        for (int i = 0; i < deltas.size(); i++) {
+            sb.append(i == 0 ? ' ' : ';').append(deltas.get(i));
+        }
+        return sb.toString();
+    }
+
+    private String board() {
+        return board("OK ", currentMatch().getMatch().snapshot());
+    }
+
+    private static String board(String prefix, MatchSnapshot s) {
+        StringBuilder sb = new StringBuilder(prefix.length() + 64);
+        sb.append(prefix);
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 8; j++) {
+                char code = s.pieceCode(i, j);
+                sb.append(code == 0 ? '-' : code);
+            }
+        }
+        return sb.toString();
+    }
+
+    private String status() {
+        MatchSnapshot s = currentMatch().getMatch().snapshot();
+        return "OK " + s.getTurn() + " " + s.getCurrentPlayer() + " " + s.getCheck() + " " + s.getCheckMate();
+    }
+
+    private HostedMatch currentMatch() {
+        if (current == null) {
+            throw new ChessException("Nenhuma partida selecionada (use NEW ou JOIN)");
+        }
+        if (registry.get(current.getId()) == null) {
+            String id = current.getId();
+            current = null;
+            throw new ChessException("Partida expirada: " + id);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,33 @@
+package chess.server;
+
+import chess.concurrent.ConcurrentChessMatch;
+
+// Partida mantida pelo servidor, com o instante do último acesso para expiração por inatividade
+public class HostedMatch {
+    private final String id;
+    private final ConcurrentChessMatch match;
+    private volatile long lastAccess;
+
+    public HostedMatch(String id, ConcurrentChessMatch match) {
+        this.id = id;
+        this.match = match;
+        touch();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // Retorna a partida; jogadas são serializadas por ela, leituras usam o snapshot
+    public ConcurrentChessMatch getMatch() {
+        return match;
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    public void touch() {
+        lastAccess = System.nanoTime();
+    }
+}
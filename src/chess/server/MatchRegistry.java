@@ -0,0 +1,73 @@
+package chess.server;
+
+import chess.ChessMatch;
+import chess.concurrent.ConcurrentChessMatch;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro das partidas hospedadas no servidor, indexadas pelo id.
+ * Partidas sem acesso por mais tempo que o limite configurado são removidas por {@link #evictIdle()}.
+ */
+public class MatchRegistry {
+    private final Map<String, HostedMatch> matches = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final long maxIdleNanos;
+    private final Executor writerExecutor;
+
+    /**
+     * @param maxIdleMillis  tempo máximo sem acesso antes de a partida ser descartada
+     * @param writerExecutor executor compartilhado que aplica as jogadas de todas as partidas
+     */
+    public MatchRegistry(long maxIdleMillis, Executor writerExecutor) {
+        this.maxIdleNanos = maxIdleMillis * 1_000_000L;
+        this.writerExecutor = writerExecutor;
+    }
+
+    // Cria uma nova partida e retorna o registro dela
+    public HostedMatch create() {
+        String id = Long.toString(nextId.getAndIncrement(), 36);
+        HostedMatch hosted = new HostedMatch(id, new ConcurrentChessMatch(new ChessMatch(), writerExecutor));
+        matches.put(id, hosted);
+        return hosted;
+    }
+
+    // Retorna a partida com o id informado, ou null se ela não existir ou já tiver expirado
+    public HostedMatch get(String id) {
+        HostedMatch hosted = matches.get(id);
+        if (hosted != null) {
+            hosted.touch();
+        }
+        return hosted;
+    }
+
+    public void remove(String id) {
+        matches.remove(id);
+    }
+
+    /**
+     * Remove as partidas inativas há mais tempo que o limite.
+     *
+     * @return quantidade de partidas removidas
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        Iterator<HostedMatch> it = matches.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().getLastAccess() > maxIdleNanos) {
+                it.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return matches.size();
+    }
+}
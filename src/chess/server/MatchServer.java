@@ -0,0 +1,165 @@
+package chess.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor TCP local que hospeda várias partidas em uma única JVM.
+ * <p>
+ * As jogadas de cada partida são aplicadas por um {@link chess.concurrent.ConcurrentChessMatch}
+ * sobre um pool de escritores compartilhado; as leituras usam o último snapshot publicado.
+ * Cada conexão é atendida por uma {@link ClientSession} em uma thread própria do
+ * executor de sessões. Por padrão o executor cria threads daemon sob demanda; em um
+ * JDK com virtual threads basta passar {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * no construtor, já que a sessão só faz I/O bloqueante simples.
+ * <p>
+ * Uma sessão parada em uma leitura do socket não responde a interrupções, então
+ * {@link #close()} fecha os sockets dos clientes conectados para encerrá-las.
+ */
+public class MatchServer implements AutoCloseable {
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final MatchRegistry registry;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final ExecutorService sessionExecutor;
+    private final ExecutorService writerExecutor;
+    private final ScheduledExecutorService evictor;
+    // Sockets das sessões em andamento; cada sessão remove o seu ao terminar
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+
+    /**
+     * @param maxIdleMillis   tempo sem acesso após o qual uma partida é descartada
+     * @param sessionExecutor executor que roda as sessões dos clientes
+     */
+    public MatchServer(long maxIdleMillis, ExecutorService sessionExecutor) {
+        this.writerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                daemon("chess-writer"));
+        this.registry = new MatchRegistry(maxIdleMillis, writerExecutor);
+        this.sessionExecutor = sessionExecutor;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(daemon("chess-evictor"));
+        long period = Math.max(1, maxIdleMillis / 4);
+        evictor.scheduleAtFixedRate(() -> metrics.matchesEvicted(registry.evictIdle()),
+                period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public MatchServer(long maxIdleMillis) {
+        this(maxIdleMillis, Executors.newCachedThreadPool(daemon("chess-session")));
+    }
+
+    /**
+     * Abre o servidor no endereço de loopback.
+     *
+     * @param port porta TCP (0 escolhe uma porta livre)
+     * @return a porta efetivamente usada
+     */
+    public int start(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        acceptThread = daemon("chess-accept").newThread(this::acceptLoop);
+        acceptThread.start();
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                clients.add(socket);
+                //close() pode ter percorrido os clientes antes de este socket entrar no conjunto
+                if (serverSocket.isClosed()) {
+                    closeQuietly(socket);
+                    break;
+                }
+                ClientSession session = new ClientSession(socket, registry, metrics);
+                try {
+                    sessionExecutor.execute(() -> {
+                        try {
+                            session.run();
+                        } finally {
+                            clients.remove(socket);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    clients.remove(socket);
+                    closeQuietly(socket);
+                }
+            } catch (SocketException e) {
+                // Servidor fechado
+            } catch (IOException e) {
+                System.err.println("Erro ao aceitar conexão: " + e.getMessage());
+            }
+        }
+    }
+
+    public MatchRegistry getRegistry() {
+        return registry;
+    }
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Para de aceitar conexões, encerra as sessões abertas (fechando os seus sockets) e
+     * espera os executores terminarem.
+     */
+    @Override
+    public void close() throws IOException {
+        evictor.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (Socket socket : clients) {
+            closeQuietly(socket);
+        }
+        sessionExecutor.shutdownNow();
+        writerExecutor.shutdownNow();
+        try {
+            if (!sessionExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    || !writerExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Servidor fechado com tarefas ainda em andamento");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // O socket já está inutilizado
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    // Inicia o servidor na porta informada (padrão 7878) com expiração de 30 minutos
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7878;
+        MatchServer server = new MatchServer(TimeUnit.MINUTES.toMillis(30));
+        System.out.println("Servidor de xadrez ouvindo em localhost:" + server.start(port));
+        server.acceptThread.join();
+    }
+}
@@ -0,0 +1,69 @@
+package chess.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores do servidor; atualizados pelas sessões sem bloqueio (LongAdder)
+public class ServerMetrics {
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder rejectedMoves = new LongAdder();
+    private final LongAdder evictedMatches = new LongAdder();
+    private final LongAdder moveNanos = new LongAdder();
+    private final LongAccumulator maxMoveNanos = new LongAccumulator(Math::max, 0);
+
+    void sessionOpened() {
+        sessions.increment();
+        activeSessions.incrementAndGet();
+    }
+
+    void sessionClosed() {
+        activeSessions.decrementAndGet();
+    }
+
+    void moveAccepted(long nanos) {
+        moves.increment();
+        moveNanos.add(nanos);
+        maxMoveNanos.accumulate(nanos);
+    }
+
+    void moveRejected() {
+        rejectedMoves.increment();
+    }
+
+    void matchesEvicted(int count) {
+        evictedMatches.add(count);
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getSessions() {
+        return sessions.sum();
+    }
+
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    public long getRejectedMoves() {
+        return rejectedMoves.sum();
+    }
+
+    public long getEvictedMatches() {
+        return evictedMatches.sum();
+    }
+
+    // Latência média das jogadas aceitas, em microssegundos
+    public double getAverageMoveMicros() {
+        long n = moves.sum();
+        return n == 0 ? 0 : moveNanos.sum() / 1000.0 / n;
+    }
+
+    public double getMaxMoveMicros() {
+        return maxMoveNanos.get() / 1000.0;
+    }
+}
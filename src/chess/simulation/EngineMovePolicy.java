@@ -0,0 +1,55 @@
+package chess.simulation;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.ChessPiece;
+import chess.ChessPosition;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Política gulosa de um lance: prefere a captura de maior valor material e
+ * desempata aleatoriamente entre as jogadas de mesmo valor.
+ */
+public class EngineMovePolicy implements MovePolicy {
+
+    @Override
+    public ChessMove chooseMove(ChessMatch match, List<ChessMove> legalMoves, int ply, Random random) {
+        ChessPiece[][] pieces = match.getPieces();
+        ChessMove best = null;
+        int bestValue = -1;
+        int ties = 0;
+        for (ChessMove move : legalMoves) {
+            ChessPosition target = move.getTarget();
+            int value = pieceValue(pieces[8 - target.getRow()][target.getColumn() - 'a']);
+            if (value > bestValue) {
+                best = move;
+                bestValue = value;
+                ties = 1;
+            } else if (value == bestValue && random.nextInt(++ties) == 0) {
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    // Valor material clássico da peça (0 para casa vazia ou rei)
+    static int pieceValue(ChessPiece piece) {
+        if (piece == null) {
+            return 0;
+        }
+        return switch (piece.toString()) {
+            case "P" -> 1;
+            case "N", "B" -> 3;
+            case "R" -> 5;
+            case "Q" -> 9;
+            default -> 0;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "engine";
+    }
+}
@@ -0,0 +1,8 @@
+package chess.simulation;
+
+public enum GameOutcome {
+    WHITE_WINS,
+    BLACK_WINS,
+    STALEMATE,
+    MOVE_LIMIT
+}
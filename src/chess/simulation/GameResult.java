@@ -0,0 +1,38 @@
+package chess.simulation;
+
+public class GameResult {
+    private final long gameIndex;
+    private final GameOutcome outcome;
+    private final int moves;
+    private final long checksum;
+
+    public GameResult(long gameIndex, GameOutcome outcome, int moves, long checksum) {
+        this.gameIndex = gameIndex;
+        this.outcome = outcome;
+        this.moves = moves;
+        this.checksum = checksum;
+    }
+
+    public long getGameIndex() {
+        return gameIndex;
+    }
+
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    // Número de meias-jogadas realizadas
+    public int getMoves() {
+        return moves;
+    }
+
+    // Resumo da sequência de jogadas e do resultado, usado para comparar execuções
+    public long getChecksum() {
+        return checksum;
+    }
+
+    @Override
+    public String toString() {
+        return "Partida " + gameIndex + ": " + outcome + " em " + moves + " jogadas";
+    }
+}
@@ -0,0 +1,28 @@
+package chess.simulation;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estratégia de escolha de jogadas usada nas partidas simuladas.
+ * <p>
+ * As implementações não devem guardar estado da partida: a mesma instância é
+ * compartilhada por todas as threads do {@link SelfPlayRunner}. Toda aleatoriedade
+ * deve vir do {@link Random} recebido, para que a simulação seja reproduzível.
+ */
+public interface MovePolicy {
+
+    /**
+     * Escolhe uma jogada para o jogador atual.
+     *
+     * @param match      partida em andamento
+     * @param legalMoves movimentos legais do jogador atual (nunca vazia)
+     * @param ply        número de meias-jogadas já realizadas na partida
+     * @param random     gerador aleatório da partida
+     * @return o movimento escolhido
+     */
+    ChessMove chooseMove(ChessMatch match, List<ChessMove> legalMoves, int ply, Random random);
+}
@@ -0,0 +1,21 @@
+package chess.simulation;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+
+import java.util.List;
+import java.util.Random;
+
+// Escolhe uma jogada legal qualquer, com probabilidade uniforme
+public class RandomMovePolicy implements MovePolicy {
+
+    @Override
+    public ChessMove chooseMove(ChessMatch match, List<ChessMove> legalMoves, int ply, Random random) {
+        return legalMoves.get(random.nextInt(legalMoves.size()));
+    }
+
+    @Override
+    public String toString() {
+        return "random";
+    }
+}
@@ -0,0 +1,53 @@
+package chess.simulation;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproduz uma sequência fixa de jogadas (ex: "e2e4 e7e5 d2d4").
+ * <p>
+ * Quando o roteiro termina, ou quando a jogada roteirizada não é legal na posição,
+ * a escolha é delegada à política de reserva.
+ */
+public class ScriptedMovePolicy implements MovePolicy {
+    private final List<ChessMove> script;
+    private final MovePolicy fallback;
+
+    public ScriptedMovePolicy(List<ChessMove> script, MovePolicy fallback) {
+        this.script = List.copyOf(script);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Cria a política a partir de um texto com jogadas separadas por espaço.
+     *
+     * @param script   jogadas no formato de coordenadas
+     * @param fallback política usada depois do fim do roteiro
+     */
+    public static ScriptedMovePolicy parse(String script, MovePolicy fallback) {
+        List<ChessMove> moves = new ArrayList<>();
+        for (String s : script.trim().split("\\s+")) {
+            if (!s.isEmpty()) {
+                moves.add(ChessMove.parse(s));
+            }
+        }
+        return new ScriptedMovePolicy(moves, fallback);
+    }
+
+    @Override
+    public ChessMove chooseMove(ChessMatch match, List<ChessMove> legalMoves, int ply, Random random) {
+        if (ply < script.size() && legalMoves.contains(script.get(ply))) {
+            return script.get(ply);
+        }
+        return fallback.chooseMove(match, legalMoves, ply, random);
+    }
+
+    @Override
+    public String toString() {
+        return "scripted(" + script.size() + " jogadas, depois " + fallback + ")";
+    }
+}
@@ -0,0 +1,211 @@
+package chess.simulation;
+
+import chess.ChessMatch;
+import chess.ChessMove;
+import chess.Color;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Executa várias partidas sem interface, em paralelo, cada uma em seu próprio {@link ChessMatch}.
+ * <p>
+ * Cada partida recebe um {@link Random} derivado da semente da simulação e do índice
+ * da partida, então o resultado de cada partida (e o agregado final) não depende do
+ * número de threads nem da ordem de execução.
+ */
+public class SelfPlayRunner {
+    private final MovePolicy whitePolicy;
+    private final MovePolicy blackPolicy;
+    private final int threads;
+    private final long seed;
+    private final int maxMoves;
+
+    /**
+     * @param whitePolicy política das peças brancas
+     * @param blackPolicy política das peças pretas
+     * @param threads     número de threads do pool
+     * @param seed        semente da simulação
+     * @param maxMoves    limite de meias-jogadas por partida
+     */
+    public SelfPlayRunner(MovePolicy whitePolicy, MovePolicy blackPolicy, int threads, long seed, int maxMoves) {
+        if (threads < 1 || maxMoves < 1) {
+            throw new IllegalArgumentException("threads e maxMoves devem ser maiores que zero");
+        }
+        this.whitePolicy = whitePolicy;
+        this.blackPolicy = blackPolicy;
+        this.threads = threads;
+        this.seed = seed;
+        this.maxMoves = maxMoves;
+    }
+
+    /**
+     * Joga uma única partida. Chamadas com o mesmo índice produzem sempre a mesma partida.
+     *
+     * @param gameIndex índice da partida na simulação
+     * @return o resultado da partida
+     */
+    public GameResult playGame(long gameIndex) {
+        Random random = new Random(gameSeed(gameIndex));
+        ChessMatch match = new ChessMatch();
+        long checksum = 1;
+        int ply = 0;
+
+        while (!match.getCheckMate() && ply < maxMoves) {
+            List<ChessMove> legalMoves = match.legalMoves();
+            if (legalMoves.isEmpty()) {
+                return new GameResult(gameIndex, GameOutcome.STALEMATE, ply, checksum * 31 + GameOutcome.STALEMATE.ordinal());
+            }
+            MovePolicy policy = (match.getCurrentPlayer() == Color.WHITE) ? whitePolicy : blackPolicy;
+            ChessMove move = policy.chooseMove(match, legalMoves, ply, random);
+            match.performChessMove(move.getSource(), move.getTarget());
+            checksum = checksum * 31 + move.hashCode();
+            ply++;
+        }
+
+        GameOutcome outcome;
+        if (!match.getCheckMate()) {
+            outcome = GameOutcome.MOVE_LIMIT;
+        } else {
+            outcome = (match.getCurrentPlayer() == Color.WHITE) ? GameOutcome.WHITE_WINS : GameOutcome.BLACK_WINS;
+        }
+        return new GameResult(gameIndex, outcome, ply, checksum * 31 + outcome.ordinal());
+    }
+
+    /**
+     * Joga {@code games} partidas no pool de threads.
+     *
+     * @param games          número de partidas
+     * @param progress       recebe relatórios parciais durante a execução (pode ser null)
+     * @param reportInterval intervalo entre relatórios parciais, em milissegundos; zero ou negativo
+     *                       desliga os relatórios parciais
+     * @return o relatório final
+     */
+    public SimulationReport run(long games, Consumer<SimulationReport> progress, long reportInterval)
+            throws InterruptedException {
+        Stats stats = new Stats();
+        AtomicLong nextGame = new AtomicLong();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] workers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                workers[t] = executor.submit(() -> {
+                    long i;
+                    while ((i = nextGame.getAndIncrement()) < games) {
+                        stats.add(playGame(i));
+                    }
+                });
+            }
+            executor.shutdown();
+            //Sem intervalo válido, só espera o fim (evita um laço sem pausa com awaitTermination(0))
+            long wait = reportInterval > 0 ? reportInterval : Long.MAX_VALUE;
+            while (!executor.awaitTermination(wait, TimeUnit.MILLISECONDS)) {
+                if (progress != null) {
+                    progress.accept(stats.report(System.nanoTime() - start));
+                }
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao simular partida", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        SimulationReport report = stats.report(System.nanoTime() - start);
+        if (progress != null) {
+            progress.accept(report);
+        }
+        return report;
+    }
+
+    // Mistura a semente com o índice (SplitMix64) para obter sementes independentes por partida
+    private long gameSeed(long gameIndex) {
+        long z = seed + (gameIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class Stats {
+        private final LongAdder games = new LongAdder();
+        private final LongAdder moves = new LongAdder();
+        private final LongAdder checksum = new LongAdder();
+        private final LongAdder[] outcomes = new LongAdder[GameOutcome.values().length];
+
+        Stats() {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new LongAdder();
+            }
+        }
+
+        void add(GameResult result) {
+            outcomes[result.getOutcome().ordinal()].increment();
+            moves.add(result.getMoves());
+            checksum.add(result.getChecksum());
+            games.increment();
+        }
+
+        SimulationReport report(long elapsedNanos) {
+            return new SimulationReport(games.sum(),
+                    outcomes[GameOutcome.WHITE_WINS.ordinal()].sum(),
+                    outcomes[GameOutcome.BLACK_WINS.ordinal()].sum(),
+                    outcomes[GameOutcome.STALEMATE.ordinal()].sum(),
+                    outcomes[GameOutcome.MOVE_LIMIT.ordinal()].sum(),
+                    moves.sum(), checksum.sum(), elapsedNanos);
+        }
+    }
+
+    /**
+     * Executa a simulação pela linha de comando.
+     * <p>
+     * Argumentos no formato chave=valor: games, threads, seed, maxMoves, interval (ms),
+     * white e black (random, engine ou scripted) e script (jogadas separadas por espaço).
+     * Ex: {@code games=10000 threads=8 seed=42 white=engine black=random}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int i = arg.indexOf('=');
+            if (i < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            options.put(arg.substring(0, i), arg.substring(i + 1));
+        }
+        long games = Long.parseLong(options.getOrDefault("games", "1000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", "0"));
+        int maxMoves = Integer.parseInt(options.getOrDefault("maxMoves", "200"));
+        long interval = Long.parseLong(options.getOrDefault("interval", "1000"));
+        String script = options.getOrDefault("script", "");
+        MovePolicy white = policy(options.getOrDefault("white", "random"), script);
+        MovePolicy black = policy(options.getOrDefault("black", "random"), script);
+
+        System.out.println("Simulando " + games + " partidas (" + white + " x " + black + ") em "
+                + threads + " threads, semente " + seed);
+        SelfPlayRunner runner = new SelfPlayRunner(white, black, threads, seed, maxMoves);
+        runner.run(games, System.out::println, interval);
+    }
+
+    private static MovePolicy policy(String name, String script) {
+        return switch (name) {
+            case "random" -> new RandomMovePolicy();
+            case "engine" -> new EngineMovePolicy();
+            case "scripted" -> ScriptedMovePolicy.parse(script, new RandomMovePolicy());
+            default -> throw new IllegalArgumentException("Política desconhecida: " + name);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package chess.simulation;
+
+/**
+ * Resultado agregado (parcial ou final) de uma simulação.
+ * <p>
+ * O checksum é a soma dos checksums das partidas concluídas e não depende da ordem
+ * em que as threads terminam: duas execuções completas com a mesma semente e as
+ * mesmas políticas devem produzir o mesmo valor.
+ */
+public class SimulationReport {
+    private final long games;
+    private final long whiteWins;
+    private final long blackWins;
+    private final long stalemates;
+    private final long moveLimits;
+    private final long moves;
+    private final long checksum;
+    private final long elapsedNanos;
+
+    public SimulationReport(long games, long whiteWins, long blackWins, long stalemates, long moveLimits,
+                            long moves, long checksum, long elapsedNanos) {
+        this.games = games;
+        this.whiteWins = whiteWins;
+        this.blackWins = blackWins;
+        this.stalemates = stalemates;
+        this.moveLimits = moveLimits;
+        this.moves = moves;
+        this.checksum = checksum;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWhiteWins() {
+        return whiteWins;
+    }
+
+    public long getBlackWins() {
+        return blackWins;
+    }
+
+    public long getStalemates() {
+        return stalemates;
+    }
+
+    public long getMoveLimits() {
+        return moveLimits;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getAverageGameLength() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0 : moves * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("partidas=%d brancas=%d pretas=%d afogamento=%d limite=%d media=%.1f jogadas "
+                        + "partidas/s=%.1f jogadas/s=%.1f checksum=%016x",
+                games, whiteWins, blackWins, stalemates, moveLimits, getAverageGameLength(),
+                getGamesPerSecond(), getMovesPerSecond(), checksum);
+    }
+}